@@ -0,0 +1,149 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * flight recorder event of an action execution.
+ * The event is disabled on default and only invocations slower than
+ * the threshold are recorded, both can be changed by the recording
+ * settings (e.g. org.lightjason.agentspeak.action.generic.Execution#threshold=100 us),
+ * the state of the recordings is tracked by a recorder listener, so the
+ * event type is not resolved and the recorder is not started if no
+ * recording is running
+ */
+@Name( CActionEvent.NAME )
+@Label( "Action Execution" )
+@Category( { "LightJason", "Action" } )
+@Description( "execution of a generic action" )
+@Enabled( false )
+@Threshold( "1 ms" )
+@StackTrace( false )
+final class CActionEvent extends Event
+{
+    /**
+     * event name
+     */
+    static final String NAME = "org.lightjason.agentspeak.action.generic.Execution";
+    /**
+     * flag of a running recording
+     */
+    private static final AtomicBoolean RECORDING = new AtomicBoolean();
+
+    static
+    {
+        FlightRecorder.addListener( new FlightRecorderListener()
+        {
+            @Override
+            public void recordingStateChanged( final Recording p_recording )
+            {
+                RECORDING.set( recording() );
+                IBaseGenericAction.instrumentation();
+            }
+        } );
+        RECORDING.set( recording() );
+    }
+
+    /**
+     * action name
+     */
+    @Name( "action" )
+    @Label( "Action" )
+    private String m_action;
+    /**
+     * agent id
+     */
+    @Name( "agent" )
+    @Label( "Agent" )
+    @Description( "identity hash of the agent" )
+    private String m_agent;
+    /**
+     * number of arguments
+     */
+    @Name( "arguments" )
+    @Label( "Arguments" )
+    private int m_arguments;
+    /**
+     * outcome
+     */
+    @Name( "outcome" )
+    @Label( "Outcome" )
+    private String m_outcome;
+
+    /**
+     * returns if a recording is running, so that the event
+     * is only created if it can be recorded
+     *
+     * @return running flag
+     */
+    static boolean active()
+    {
+        return RECORDING.get();
+    }
+
+    /**
+     * checks the recordings of an initialized recorder
+     *
+     * @return flag of a running recording
+     */
+    private static boolean recording()
+    {
+        return FlightRecorder.isInitialized()
+               && FlightRecorder.getFlightRecorder().getRecordings().stream().anyMatch( i -> RecordingState.RUNNING.equals( i.getState() ) );
+    }
+
+    /**
+     * sets the event data and commits the event
+     *
+     * @param p_action action name
+     * @param p_agent agent id
+     * @param p_arguments number of arguments
+     * @param p_error invocation throws an exception
+     */
+    void commit( @Nonnull final String p_action, @Nonnull final String p_agent, @Nonnegative final int p_arguments, final boolean p_error )
+    {
+        m_action = p_action;
+        m_agent = p_agent;
+        m_arguments = p_arguments;
+        m_outcome = p_error ? "error" : "success";
+        this.commit();
+    }
+}
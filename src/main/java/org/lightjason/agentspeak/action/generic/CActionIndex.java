@@ -0,0 +1,413 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.common.CCommon;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * index of the generic actions.
+ * The index is generated at build time (process-classes phase) and contains
+ * each action class with name and argument number, the actions are
+ * instantiated and looked up by name from the index without scanning
+ * the classpath, additional the service registration and the native-image
+ * reachability metadata are created in the same step
+ */
+public final class CActionIndex
+{
+    /**
+     * index resource
+     */
+    private static final String RESOURCE = "actions.index";
+    /**
+     * service registration resource
+     */
+    private static final String SERVICE = "META-INF/services/" + IAction.class.getName();
+    /**
+     * field separator of the index
+     */
+    private static final String SEPARATOR = ";";
+    /**
+     * native-image metadata directory
+     */
+    private static final String NATIVEIMAGE = "META-INF/native-image/org.lightjason.agentspeak/action-generic";
+    /**
+     * index entries
+     */
+    private static final List<CEntry> INDEX = load();
+    /**
+     * index entries by action name
+     */
+    private static final Map<String, CEntry> NAMES = INDEX.stream().collect( Collectors.toUnmodifiableMap( CEntry::name, Function.identity() ) );
+
+    /**
+     * ctor
+     */
+    private CActionIndex()
+    {
+    }
+
+    /**
+     * returns the index entries
+     *
+     * @return entry stream
+     */
+    @Nonnull
+    public static Stream<CEntry> index()
+    {
+        return INDEX.stream();
+    }
+
+    /**
+     * returns the index entry of an action
+     *
+     * @param p_name action name
+     * @return optional entry
+     */
+    @Nonnull
+    public static Optional<CEntry> entry( @Nonnull final String p_name )
+    {
+        return Optional.ofNullable( NAMES.get( p_name ) );
+    }
+
+    /**
+     * instantiates all generic actions of the index
+     *
+     * @return action stream
+     */
+    @Nonnull
+    public static Stream<IAction> actions()
+    {
+        return INDEX.stream().map( CEntry::action );
+    }
+
+    /**
+     * instantiates a generic action by the name
+     *
+     * @param p_name action name
+     * @return optional action
+     */
+    @Nonnull
+    public static Optional<IAction> action( @Nonnull final String p_name )
+    {
+        return entry( p_name ).map( CEntry::action );
+    }
+
+    /**
+     * creates the index, the service registration and the native-image
+     * metadata, the first argument must be the class output directory
+     *
+     * @param p_args arguments
+     * @throws Exception is thrown on any error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        if ( p_args.length != 1 )
+            throw new IllegalArgumentException( CCommon.languagestring( CActionIndex.class, "outputdirectory" ) );
+
+        final Path l_root = Paths.get( p_args[0] );
+        final Path l_package = l_root.resolve( CActionIndex.class.getPackageName().replace( '.', '/' ) );
+
+        final List<Class<?>> l_classes;
+        try ( Stream<Path> l_files = Files.list( l_package ) )
+        {
+            l_classes = l_files.map( i -> i.getFileName().toString() )
+                               .filter( i -> i.endsWith( ".class" ) )
+                               .sorted()
+                               .map( i -> CActionIndex.class.getPackageName() + "." + i.substring( 0, i.length() - 6 ) )
+                               .map( CActionIndex::load )
+                               .collect( Collectors.toList() );
+        }
+
+        final List<IAction> l_actions = l_classes.stream()
+                                                 .map( CActionIndex::instantiate )
+                                                 .filter( Objects::nonNull )
+                                                 .collect( Collectors.toList() );
+
+        Files.write(
+            l_package.resolve( RESOURCE ),
+            l_actions.stream()
+                     .map( i -> String.join( SEPARATOR, i.getClass().getName(), i.name().toString(), Integer.toString( i.minimalArgumentNumber() ) ) )
+                     .collect( Collectors.toList() ),
+            StandardCharsets.UTF_8
+        );
+
+        Files.createDirectories( l_root.resolve( SERVICE ).getParent() );
+        Files.write(
+            l_root.resolve( SERVICE ),
+            l_actions.stream().map( i -> i.getClass().getName() ).collect( Collectors.toList() ),
+            StandardCharsets.UTF_8
+        );
+
+        nativeimage( l_root.resolve( NATIVEIMAGE ), l_classes, l_actions );
+    }
+
+    /**
+     * writes the native-image reachability metadata, the actions are registered
+     * for the service loader, all serializable classes for the serialization and
+     * the index, configuration and language files as resources
+     *
+     * @param p_directory metadata directory
+     * @param p_classes classes of the package
+     * @param p_actions actions
+     * @throws IOException is thrown on write errors
+     */
+    private static void nativeimage( @Nonnull final Path p_directory, @Nonnull final List<Class<?>> p_classes,
+                                     @Nonnull final List<IAction> p_actions ) throws IOException
+    {
+        Files.createDirectories( p_directory );
+
+        Files.writeString(
+            p_directory.resolve( "reflect-config.json" ),
+            json(
+                p_actions.stream()
+                         .map( i -> MessageFormat.format(
+                             "'{' \"name\": \"{0}\", \"methods\": [ '{' \"name\": \"<init>\", \"parameterTypes\": [] '}' ] '}'",
+                             i.getClass().getName()
+                         ) )
+            ),
+            StandardCharsets.UTF_8
+        );
+
+        Files.writeString(
+            p_directory.resolve( "serialization-config.json" ),
+            json(
+                p_classes.stream()
+                         .filter( i -> Serializable.class.isAssignableFrom( i ) && !i.isInterface() && !Modifier.isAbstract( i.getModifiers() ) )
+                         .map( i -> MessageFormat.format( "'{' \"name\": \"{0}\" '}'", i.getName() ) )
+            ),
+            StandardCharsets.UTF_8
+        );
+
+        Files.writeString(
+            p_directory.resolve( "resource-config.json" ),
+            MessageFormat.format(
+                "'{'\n  \"resources\": '{' \"includes\": {0} '}',\n  \"bundles\": [ '{' \"name\": \"org.lightjason.agentspeak.language\" '}' ]\n'}'\n",
+                json(
+                    Stream.of(
+                        CActionIndex.class.getPackageName().replace( '.', '/' ) + "/" + RESOURCE,
+                        "org/lightjason/agentspeak/configuration.properties",
+                        "org/lightjason/agentspeak/language.*\\\\.properties"
+                    ).map( i -> MessageFormat.format( "'{' \"pattern\": \"{0}\" '}'", i ) )
+                ).trim()
+            ),
+            StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * creates a json array
+     *
+     * @param p_entries json objects
+     * @return json array
+     */
+    @Nonnull
+    private static String json( @Nonnull final Stream<String> p_entries )
+    {
+        return p_entries.map( i -> "  " + i ).collect( Collectors.joining( ",\n", "[\n", "\n]\n" ) );
+    }
+
+    /**
+     * loads a class without initialization
+     *
+     * @param p_class class name
+     * @return class
+     */
+    @Nonnull
+    private static Class<?> load( @Nonnull final String p_class )
+    {
+        try
+        {
+            return Class.forName( p_class, false, CActionIndex.class.getClassLoader() );
+        }
+        catch ( final ClassNotFoundException l_exception )
+        {
+            throw new IllegalStateException( l_exception );
+        }
+    }
+
+    /**
+     * instantiates an action class with the default constructor
+     *
+     * @param p_class class
+     * @return action or null if the class is not an instantiable action
+     */
+    private static IAction instantiate( @Nonnull final Class<?> p_class )
+    {
+        if ( !IAction.class.isAssignableFrom( p_class ) || p_class.isMemberClass()
+             || Modifier.isAbstract( p_class.getModifiers() ) || !Modifier.isPublic( p_class.getModifiers() ) )
+            return null;
+
+        try
+        {
+            return (IAction) p_class.getConstructor().newInstance();
+        }
+        catch ( final NoSuchMethodException l_exception )
+        {
+            return null;
+        }
+        catch ( final Exception l_exception )
+        {
+            throw new IllegalStateException( CCommon.languagestring( CActionIndex.class, "instantiate", p_class.getName() ), l_exception );
+        }
+    }
+
+    /**
+     * loads the index resource
+     *
+     * @return entry list
+     */
+    @Nonnull
+    private static List<CEntry> load()
+    {
+        final InputStream l_stream = CActionIndex.class.getResourceAsStream( RESOURCE );
+        if ( l_stream == null )
+            return Collections.emptyList();
+
+        try ( BufferedReader l_reader = new BufferedReader( new InputStreamReader( l_stream, StandardCharsets.UTF_8 ) ) )
+        {
+            return l_reader.lines()
+                           .filter( i -> !i.isBlank() )
+                           .map( i -> i.split( SEPARATOR ) )
+                           .map( i -> new CEntry( i[0], i[1], Integer.parseInt( i[2] ) ) )
+                           .collect( Collectors.toUnmodifiableList() );
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new UncheckedIOException( l_exception );
+        }
+    }
+
+
+    /**
+     * index entry
+     */
+    public static final class CEntry
+    {
+        /**
+         * class name
+         */
+        private final String m_type;
+        /**
+         * action name
+         */
+        private final String m_name;
+        /**
+         * minimal argument number
+         */
+        private final int m_arity;
+
+        /**
+         * ctor
+         *
+         * @param p_type class name
+         * @param p_name action name
+         * @param p_arity minimal argument number
+         */
+        private CEntry( @Nonnull final String p_type, @Nonnull final String p_name, @Nonnegative final int p_arity )
+        {
+            m_type = p_type;
+            m_name = p_name;
+            m_arity = p_arity;
+        }
+
+        /**
+         * returns the class name
+         *
+         * @return class name
+         */
+        @Nonnull
+        public String type()
+        {
+            return m_type;
+        }
+
+        /**
+         * returns the action name
+         *
+         * @return action name
+         */
+        @Nonnull
+        public String name()
+        {
+            return m_name;
+        }
+
+        /**
+         * returns the minimal argument number
+         *
+         * @return argument number
+         */
+        @Nonnegative
+        public int arity()
+        {
+            return m_arity;
+        }
+
+        /**
+         * instantiates the action of the entry
+         *
+         * @return action
+         */
+        @Nonnull
+        public IAction action()
+        {
+            final IAction l_action = instantiate( load( m_type ) );
+            if ( Objects.isNull( l_action ) )
+                throw new IllegalStateException( CCommon.languagestring( CActionIndex.class, "instantiate", m_type ) );
+
+            return l_action;
+        }
+
+        @Override
+        public String toString()
+        {
+            return MessageFormat.format( "{0}({1}) -> {2}", m_name, m_arity, m_type );
+        }
+    }
+}
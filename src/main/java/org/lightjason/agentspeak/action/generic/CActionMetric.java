@@ -0,0 +1,186 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * metric of a single action
+ */
+public final class CActionMetric implements IActionMetricMXBean
+{
+    /**
+     * action name
+     */
+    private final String m_name;
+    /**
+     * number of invocations
+     */
+    private final LongAdder m_invocations = new LongAdder();
+    /**
+     * number of errors
+     */
+    private final LongAdder m_errors = new LongAdder();
+    /**
+     * latency histogram
+     */
+    private final CHistogram m_latency = new CHistogram();
+    /**
+     * argument number histogram
+     */
+    private final CHistogram m_argument = new CHistogram();
+
+    /**
+     * ctor
+     *
+     * @param p_name action name
+     */
+    CActionMetric( @Nonnull final String p_name )
+    {
+        m_name = p_name;
+    }
+
+    /**
+     * records an invocation
+     *
+     * @param p_latency latency in nanoseconds
+     * @param p_argument number of arguments
+     * @param p_error invocation throws an exception
+     */
+    void record( @Nonnegative final long p_latency, @Nonnegative final int p_argument, final boolean p_error )
+    {
+        m_invocations.increment();
+        if ( p_error )
+            m_errors.increment();
+
+        m_latency.record( p_latency );
+        m_argument.record( p_argument );
+    }
+
+    /**
+     * returns the latency histogram
+     *
+     * @return histogram
+     */
+    @Nonnull
+    public CHistogram latency()
+    {
+        return m_latency;
+    }
+
+    /**
+     * returns the argument number histogram
+     *
+     * @return histogram
+     */
+    @Nonnull
+    public CHistogram argument()
+    {
+        return m_argument;
+    }
+
+    @Override
+    public String getName()
+    {
+        return m_name;
+    }
+
+    @Override
+    public long getInvocations()
+    {
+        return m_invocations.sum();
+    }
+
+    @Override
+    public long getErrors()
+    {
+        return m_errors.sum();
+    }
+
+    @Override
+    public double getLatencyMean()
+    {
+        return m_latency.mean();
+    }
+
+    @Override
+    public long getLatency50()
+    {
+        return m_latency.percentile( 0.5 );
+    }
+
+    @Override
+    public long getLatency90()
+    {
+        return m_latency.percentile( 0.9 );
+    }
+
+    @Override
+    public long getLatency99()
+    {
+        return m_latency.percentile( 0.99 );
+    }
+
+    @Override
+    public long getLatencyMax()
+    {
+        return m_latency.max();
+    }
+
+    @Override
+    public double getArgumentMean()
+    {
+        return m_argument.mean();
+    }
+
+    @Override
+    public long getArgument99()
+    {
+        return m_argument.percentile( 0.99 );
+    }
+
+    @Override
+    public long getArgumentMax()
+    {
+        return m_argument.max();
+    }
+
+    @Override
+    public void reset()
+    {
+        m_invocations.reset();
+        m_errors.reset();
+        m_latency.reset();
+        m_argument.reset();
+    }
+
+    @Override
+    public String toString()
+    {
+        return m_name;
+    }
+}
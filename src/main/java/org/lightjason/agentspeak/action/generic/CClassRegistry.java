@@ -0,0 +1,107 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+
+/**
+ * registry of the classes which can be used by name
+ * within the type actions. The registry contains the common Java
+ * types and can be extended by registering classes, classes which are not
+ * registered are resolved by reflection and cached, if the reflection
+ * lookup is enabled (configuration key action.generic.classregistry.reflection),
+ * within native images the reflection lookup should be disabled and all
+ * used classes should be registered
+ */
+public final class CClassRegistry
+{
+    /**
+     * flag of reflection lookup
+     */
+    private static final boolean REFLECTION = CConfiguration.get( "classregistry.reflection", true );
+    /**
+     * registered classes
+     */
+    private static final ConcurrentMap<String, Class<?>> CLASSES = new ConcurrentHashMap<>();
+
+    static
+    {
+        register(
+            Object.class, Class.class, String.class, CharSequence.class, Character.class, Boolean.class,
+            Number.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            Iterable.class, Collection.class, List.class, Set.class, Map.class, Map.Entry.class, Optional.class
+        );
+    }
+
+    /**
+     * ctor
+     */
+    private CClassRegistry()
+    {
+    }
+
+    /**
+     * registers classes
+     *
+     * @param p_class classes
+     */
+    public static void register( @Nonnull final Class<?>... p_class )
+    {
+        Stream.of( p_class ).forEach( i -> CLASSES.put( i.getName(), i ) );
+    }
+
+    /**
+     * returns a class by the full-qualified name
+     *
+     * @param p_name class name
+     * @return optional class
+     */
+    @Nonnull
+    public static Optional<Class<?>> get( @Nonnull final String p_name )
+    {
+        final Class<?> l_class = CLASSES.get( p_name );
+        if ( l_class != null || !REFLECTION )
+            return Optional.ofNullable( l_class );
+
+        try
+        {
+            final Class<?> l_reflection = Class.forName( p_name );
+            CLASSES.putIfAbsent( p_name, l_reflection );
+            return Optional.of( l_reflection );
+        }
+        catch ( final ClassNotFoundException l_exception )
+        {
+            return Optional.empty();
+        }
+    }
+}
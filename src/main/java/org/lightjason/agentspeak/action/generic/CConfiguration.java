@@ -0,0 +1,128 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.Properties;
+
+
+/**
+ * configuration of the generic actions.
+ * The values are read from the configuration.properties and
+ * can be overwritten by system properties with the same key
+ */
+final class CConfiguration
+{
+    /**
+     * configuration resource
+     */
+    private static final String RESOURCE = "org/lightjason/agentspeak/configuration.properties";
+    /**
+     * key prefix
+     */
+    private static final String PREFIX = "action.generic.";
+    /**
+     * properties
+     */
+    private static final Properties PROPERTIES = load();
+
+    /**
+     * ctor
+     */
+    private CConfiguration()
+    {
+    }
+
+    /**
+     * returns a configuration value
+     *
+     * @param p_key key without prefix
+     * @param p_default default value
+     * @return value
+     */
+    @Nonnull
+    static String get( @Nonnull final String p_key, @Nonnull final String p_default )
+    {
+        return System.getProperty( PREFIX + p_key, PROPERTIES.getProperty( PREFIX + p_key, p_default ) );
+    }
+
+    /**
+     * returns a numeric configuration value
+     *
+     * @param p_key key without prefix
+     * @param p_default default value
+     * @return value
+     */
+    static long get( @Nonnull final String p_key, final long p_default )
+    {
+        return Long.parseLong( get( p_key, Long.toString( p_default ) ).trim() );
+    }
+
+    /**
+     * returns a boolean configuration value
+     *
+     * @param p_key key without prefix
+     * @param p_default default value
+     * @return value
+     */
+    static boolean get( @Nonnull final String p_key, final boolean p_default )
+    {
+        return Boolean.parseBoolean( get( p_key, Boolean.toString( p_default ) ).trim() );
+    }
+
+    /**
+     * loads all configuration resources, the configuration file
+     * can exist multiple times on the classpath, so the first
+     * definition of a key is used
+     *
+     * @return properties
+     */
+    @Nonnull
+    private static Properties load()
+    {
+        final Properties l_properties = new Properties();
+        try
+        {
+            final Enumeration<URL> l_resources = CConfiguration.class.getClassLoader().getResources( RESOURCE );
+            while ( l_resources.hasMoreElements() )
+                try ( InputStream l_stream = l_resources.nextElement().openStream() )
+                {
+                    final Properties l_resource = new Properties();
+                    l_resource.load( l_stream );
+                    l_resource.forEach( l_properties::putIfAbsent );
+                }
+        }
+        catch ( final IOException l_exception )
+        {
+            // on io errors the default values are used
+            return l_properties;
+        }
+
+        return l_properties;
+    }
+}
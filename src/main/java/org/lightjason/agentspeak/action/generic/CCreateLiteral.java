@@ -23,9 +23,9 @@
 
 package org.lightjason.agentspeak.action.generic;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -42,11 +42,14 @@ import java.util.stream.Stream;
  * The action create a literal, so the first
  * argument is a string with the literal functor
  * all other arguments will be used for the literal
- * values
+ * values, on the interning mode equal ground literals
+ * are returned as the same instance, the parsed functor paths
+ * of the recently used functors are cached (size is defined by
+ * the configuration key action.generic.createliteral.functorcache)
  *
  * {@code L = .generic/createliteral( "literal/functor/with/path", 123, "value" );}
  */
-public final class CCreateLiteral extends IBaseAction
+public final class CCreateLiteral extends IBaseGenericAction
 {
     /**
      * serial id
@@ -56,6 +59,36 @@ public final class CCreateLiteral extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CCreateLiteral.class, "generic" );
+    /**
+     * literal pool
+     */
+    private static final CLiteralPool POOL = new CLiteralPool();
+    /**
+     * functor cache
+     */
+    private static final CFunctorCache FUNCTORS = new CFunctorCache( CConfiguration.get( "createliteral.functorcache", 4096L ) );
+    /**
+     * interning of ground literals
+     */
+    private final boolean m_intern;
+
+    /**
+     * ctor
+     */
+    public CCreateLiteral()
+    {
+        this( false );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_intern interning of ground literals
+     */
+    public CCreateLiteral( final boolean p_intern )
+    {
+        m_intern = p_intern;
+    }
 
     @Nonnull
     @Override
@@ -73,19 +106,48 @@ public final class CCreateLiteral extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
         p_return.add(
-            CLiteral.of(
-                p_argument.get( 0 ).raw(),
+            literal(
+                functor( p_argument.get( 0 ).raw() ),
                 p_argument.size() > 1
                 ? p_argument.subList( 1, p_argument.size() )
-                : Collections.emptyList()
+                : Collections.emptyList(),
+                m_intern
             )
         );
         return Stream.empty();
     }
 
+    /**
+     * creates a literal
+     *
+     * @param p_functor functor path
+     * @param p_values literal values
+     * @param p_intern interning of ground literals
+     * @return literal
+     */
+    @Nonnull
+    static ILiteral literal( @Nonnull final IPath p_functor, @Nonnull final List<ITerm> p_values, final boolean p_intern )
+    {
+        final ILiteral l_literal = CLiteral.of( p_functor, p_values.stream() );
+        return p_intern ? POOL.intern( l_literal ) : l_literal;
+    }
+
+    /**
+     * returns the path of a functor, the paths of the
+     * recently used functors are cached
+     *
+     * @param p_functor functor string
+     * @return functor path
+     */
+    @Nonnull
+    static IPath functor( @Nonnull final String p_functor )
+    {
+        return FUNCTORS.get( p_functor );
+    }
+
 }
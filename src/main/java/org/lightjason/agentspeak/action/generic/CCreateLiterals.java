@@ -0,0 +1,175 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * creates multiple literals with the same functor.
+ * The first argument is a string with the literal functor,
+ * each other argument is a tuple (list) of the values of
+ * one literal, a non-list argument creates a literal with
+ * a single value, the literals are returned in the order
+ * of the arguments, a single argument which is a list of
+ * lists is flattened by one level, so each inner list is one tuple
+ *
+ * {@code [L1|L2] = .generic/createliterals( "position", [3, 4], [5, 6] ); [L3|L4] = .generic/createliterals( "position", [[3, 4], [5, 6]] );}
+ */
+public final class CCreateLiterals extends IBaseGenericAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7355297634915206377L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CCreateLiterals.class, "generic" );
+    /**
+     * interning of ground literals
+     */
+    private final boolean m_intern;
+
+    /**
+     * ctor
+     */
+    public CCreateLiterals()
+    {
+        this( false );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_intern interning of ground literals
+     */
+    public CCreateLiterals( final boolean p_intern )
+    {
+        m_intern = p_intern;
+    }
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final IPath l_functor = CCreateLiteral.functor( p_argument.get( 0 ).raw() );
+        final Stream<ITerm> l_tuples = tuples( p_argument.subList( 1, p_argument.size() ) ).stream();
+
+        p_return.addAll(
+            ( p_parallel ? l_tuples.parallel() : l_tuples )
+                .map( i -> CCreateLiteral.literal( l_functor, values( i ), m_intern ) )
+                .collect( Collectors.toList() )
+        );
+
+        return Stream.empty();
+    }
+
+    /**
+     * returns the tuples of the arguments, a single
+     * list of lists is flattened by one level
+     *
+     * @param p_argument tuple arguments
+     * @return tuple list
+     */
+    @Nonnull
+    private static List<ITerm> tuples( @Nonnull final List<ITerm> p_argument )
+    {
+        if ( p_argument.size() != 1 || !( p_argument.get( 0 ).raw() instanceof Collection<?> ) )
+            return p_argument;
+
+        final Collection<?> l_tuples = p_argument.get( 0 ).raw();
+        return !l_tuples.isEmpty() && l_tuples.stream().allMatch( i -> raw( i ) instanceof Collection<?> )
+               ? l_tuples.stream().map( CCreateLiterals::term ).collect( Collectors.toList() )
+               : p_argument;
+    }
+
+    /**
+     * returns the literal values of a tuple
+     *
+     * @param p_tuple tuple term
+     * @return value list
+     */
+    @Nonnull
+    private static List<ITerm> values( @Nonnull final ITerm p_tuple )
+    {
+        final Object l_tuple = p_tuple.raw();
+        return l_tuple instanceof Collection<?>
+               ? ( (Collection<?>) l_tuple ).stream()
+                                            .map( CCreateLiterals::term )
+                                            .collect( Collectors.toList() )
+               : Collections.singletonList( p_tuple );
+    }
+
+    /**
+     * returns an element as term
+     *
+     * @param p_value element
+     * @return term
+     */
+    @Nonnull
+    private static ITerm term( final Object p_value )
+    {
+        return p_value instanceof ITerm ? (ITerm) p_value : CRawTerm.of( p_value );
+    }
+
+    /**
+     * returns the raw value of an element
+     *
+     * @param p_value element
+     * @return raw value
+     */
+    private static Object raw( final Object p_value )
+    {
+        return p_value instanceof ITerm ? ( (ITerm) p_value ).raw() : p_value;
+    }
+}
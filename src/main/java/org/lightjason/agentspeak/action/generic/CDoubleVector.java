@@ -0,0 +1,302 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+
+/**
+ * packed double vector.
+ * A vector is a raw term with a double array, so bulk numeric
+ * values are stored without boxing, the vector can be read
+ * as term list for consumers which expect single terms, the
+ * flatten call of the actions expands vectors into number terms, the
+ * conversion loops are simple counted loops, so the JIT can
+ * vectorize them
+ */
+public final class CDoubleVector
+{
+    /**
+     * ctor
+     */
+    private CDoubleVector()
+    {
+    }
+
+    /**
+     * packs a double array into a term
+     *
+     * @param p_values values
+     * @return vector term
+     */
+    @Nonnull
+    public static ITerm of( @Nonnull final double[] p_values )
+    {
+        return CRawTerm.of( p_values );
+    }
+
+    /**
+     * checks if a term is a vector
+     *
+     * @param p_term term
+     * @return vector flag
+     */
+    public static boolean packed( @Nonnull final ITerm p_term )
+    {
+        return p_term.raw() instanceof double[];
+    }
+
+    /**
+     * returns the double array of a vector term
+     *
+     * @param p_term vector term
+     * @return double array
+     */
+    @Nonnull
+    public static double[] unpack( @Nonnull final ITerm p_term )
+    {
+        return p_term.raw();
+    }
+
+    /**
+     * returns the values of a vector as term list,
+     * the terms are created on access
+     *
+     * @param p_term vector term
+     * @return unmodifiable term list
+     */
+    @Nonnull
+    public static List<ITerm> terms( @Nonnull final ITerm p_term )
+    {
+        return new CTermList( unpack( p_term ) );
+    }
+
+    /**
+     * flattens the arguments and expands the vectors into number terms
+     *
+     * @param p_terms terms
+     * @return flatten term stream
+     */
+    @Nonnull
+    public static Stream<ITerm> flatten( @Nonnull final List<ITerm> p_terms )
+    {
+        return CCommon.flatten( p_terms ).flatMap( i -> packed( i ) ? terms( i ).stream() : Stream.of( i ) );
+    }
+
+    /**
+     * returns the string representation of a raw value,
+     * vectors are written with their values
+     *
+     * @param p_value raw value
+     * @return string
+     */
+    @Nonnull
+    public static String string( @Nonnull final Object p_value )
+    {
+        return p_value instanceof double[] ? Arrays.toString( (double[]) p_value ) : p_value.toString();
+    }
+
+    /**
+     * converts numeric terms into a double array, a term can contain
+     * a number or a primitive int, long, float or double array
+     *
+     * @param p_terms terms
+     * @return optional double array, empty if a term is not numeric
+     */
+    @Nonnull
+    public static Optional<double[]> convert( @Nonnull final List<ITerm> p_terms )
+    {
+        int l_size = 0;
+        for ( final ITerm l_term : p_terms )
+        {
+            final int l_length = length( l_term.raw() );
+            if ( l_length < 0 )
+                return Optional.empty();
+            l_size += l_length;
+        }
+
+        final double[] l_result = new double[l_size];
+        int l_offset = 0;
+        for ( final ITerm l_term : p_terms )
+            l_offset = copy( l_term.raw(), l_result, l_offset );
+
+        return Optional.of( l_result );
+    }
+
+    /**
+     * parses string terms into a double array
+     *
+     * @param p_terms terms
+     * @return optional double array, empty on parsing errors
+     */
+    @Nonnull
+    public static Optional<double[]> parse( @Nonnull final List<ITerm> p_terms )
+    {
+        final double[] l_result = new double[p_terms.size()];
+        try
+        {
+            for ( int i = 0; i < l_result.length; i++ )
+                l_result[i] = Double.parseDouble( p_terms.get( i ).raw() );
+        }
+        catch ( final Exception l_exception )
+        {
+            return Optional.empty();
+        }
+
+        return Optional.of( l_result );
+    }
+
+    /**
+     * converts an int array
+     *
+     * @param p_values values
+     * @param p_target target array
+     * @param p_offset target offset
+     */
+    public static void convert( @Nonnull final int[] p_values, @Nonnull final double[] p_target, @Nonnegative final int p_offset )
+    {
+        for ( int i = 0; i < p_values.length; i++ )
+            p_target[p_offset + i] = p_values[i];
+    }
+
+    /**
+     * converts a long array
+     *
+     * @param p_values values
+     * @param p_target target array
+     * @param p_offset target offset
+     */
+    public static void convert( @Nonnull final long[] p_values, @Nonnull final double[] p_target, @Nonnegative final int p_offset )
+    {
+        for ( int i = 0; i < p_values.length; i++ )
+            p_target[p_offset + i] = p_values[i];
+    }
+
+    /**
+     * converts a float array
+     *
+     * @param p_values values
+     * @param p_target target array
+     * @param p_offset target offset
+     */
+    public static void convert( @Nonnull final float[] p_values, @Nonnull final double[] p_target, @Nonnegative final int p_offset )
+    {
+        for ( int i = 0; i < p_values.length; i++ )
+            p_target[p_offset + i] = p_values[i];
+    }
+
+    /**
+     * returns the number of values of a raw value
+     *
+     * @param p_value raw value
+     * @return number of values or -1 if the value is not numeric
+     */
+    private static int length( final Object p_value )
+    {
+        if ( p_value instanceof Number )
+            return 1;
+        if ( p_value instanceof double[] )
+            return ( (double[]) p_value ).length;
+        if ( p_value instanceof int[] )
+            return ( (int[]) p_value ).length;
+        if ( p_value instanceof long[] )
+            return ( (long[]) p_value ).length;
+        if ( p_value instanceof float[] )
+            return ( (float[]) p_value ).length;
+        return -1;
+    }
+
+    /**
+     * copies a raw value into the target array
+     *
+     * @param p_value raw value
+     * @param p_target target array
+     * @param p_offset target offset
+     * @return next offset
+     */
+    private static int copy( @Nonnull final Object p_value, @Nonnull final double[] p_target, @Nonnegative final int p_offset )
+    {
+        if ( p_value instanceof Number )
+        {
+            p_target[p_offset] = ( (Number) p_value ).doubleValue();
+            return p_offset + 1;
+        }
+
+        if ( p_value instanceof double[] )
+            System.arraycopy( p_value, 0, p_target, p_offset, ( (double[]) p_value ).length );
+        else if ( p_value instanceof int[] )
+            convert( (int[]) p_value, p_target, p_offset );
+        else if ( p_value instanceof long[] )
+            convert( (long[]) p_value, p_target, p_offset );
+        else
+            convert( (float[]) p_value, p_target, p_offset );
+
+        return p_offset + length( p_value );
+    }
+
+
+    /**
+     * term list view of a vector
+     */
+    private static final class CTermList extends AbstractList<ITerm> implements RandomAccess
+    {
+        /**
+         * values
+         */
+        private final double[] m_values;
+
+        /**
+         * ctor
+         *
+         * @param p_values values
+         */
+        CTermList( @Nonnull final double[] p_values )
+        {
+            m_values = p_values;
+        }
+
+        @Override
+        public ITerm get( final int p_index )
+        {
+            return CRawTerm.of( m_values[p_index] );
+        }
+
+        @Override
+        public int size()
+        {
+            return m_values.length;
+        }
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import org.lightjason.agentspeak.error.context.CExecutionException;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.execution.IContext;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+
+/**
+ * creates the exceptions of the generic actions.
+ * The exceptions can be created without stack trace, so that
+ * failing actions are cheap if they are used for control flow,
+ * the stack trace can be enabled for debugging by the configuration
+ * key action.generic.stacktrace or at runtime, the
+ * language strings of the messages are cached and formatted
+ * not until the message is read
+ */
+public final class CException
+{
+    /**
+     * stack trace flag
+     */
+    private static final AtomicBoolean STACKTRACE = new AtomicBoolean( CConfiguration.get( "stacktrace", true ) );
+
+    /**
+     * ctor
+     */
+    private CException()
+    {
+    }
+
+    /**
+     * returns if exceptions are created with stack trace
+     *
+     * @return stack trace flag
+     */
+    public static boolean stacktrace()
+    {
+        return STACKTRACE.get();
+    }
+
+    /**
+     * enables or disables the stack trace of exceptions
+     *
+     * @param p_stacktrace stack trace flag
+     */
+    public static void stacktrace( final boolean p_stacktrace )
+    {
+        STACKTRACE.set( p_stacktrace );
+    }
+
+    /**
+     * creates a cached language string
+     *
+     * @param p_class class of the language string
+     * @param p_label label of the language string
+     * @return language string supplier
+     */
+    @Nonnull
+    static Supplier<String> message( @Nonnull final Class<?> p_class, @Nonnull final String p_label )
+    {
+        return new CMessage( p_class, p_label );
+    }
+
+    /**
+     * creates an execution exception
+     *
+     * @param p_context execution context
+     * @return exception
+     */
+    @Nonnull
+    static CExecutionException execution( @Nonnull final IContext p_context )
+    {
+        return STACKTRACE.get() ? new CExecutionException( p_context ) : new CStacklessExecutionException( p_context );
+    }
+
+    /**
+     * creates an execution exception
+     *
+     * @param p_context execution context
+     * @param p_message message
+     * @return exception
+     */
+    @Nonnull
+    static CExecutionException execution( @Nonnull final IContext p_context, @Nonnull final String p_message )
+    {
+        return STACKTRACE.get() ? new CExecutionException( p_context, p_message ) : new CStacklessExecutionException( p_context, p_message );
+    }
+
+    /**
+     * creates an illegal argument exception
+     *
+     * @param p_context execution context
+     * @param p_message message
+     * @return exception
+     */
+    @Nonnull
+    static CExecutionIllegealArgumentException illegalargument( @Nonnull final IContext p_context, @Nonnull final String p_message )
+    {
+        return STACKTRACE.get()
+               ? new CExecutionIllegealArgumentException( p_context, p_message )
+               : new CStacklessExecutionIllegealArgumentException( p_context, p_message );
+    }
+
+    /**
+     * creates an illegal argument exception, the
+     * message is formatted on the first read
+     *
+     * @param p_context execution context
+     * @param p_message message pattern
+     * @param p_arguments message arguments
+     * @return exception
+     */
+    @Nonnull
+    static CExecutionIllegealArgumentException illegalargument( @Nonnull final IContext p_context, @Nonnull final Supplier<String> p_message,
+                                                                @Nonnull final Object... p_arguments )
+    {
+        return STACKTRACE.get()
+               ? new CLazyExecutionIllegealArgumentException( p_context, p_message, p_arguments )
+               : new CStacklessLazyExecutionIllegealArgumentException( p_context, p_message, p_arguments );
+    }
+
+    /**
+     * creates an illegal argument exception
+     *
+     * @param p_context execution context
+     * @param p_cause cause
+     * @return exception
+     */
+    @Nonnull
+    static CExecutionIllegealArgumentException illegalargument( @Nonnull final IContext p_context, @Nonnull final Throwable p_cause )
+    {
+        return STACKTRACE.get()
+               ? new CExecutionIllegealArgumentException( p_context, p_cause )
+               : new CStacklessExecutionIllegealArgumentException( p_context, p_cause );
+    }
+
+
+    /**
+     * language string, which is resolved on the first
+     * read and cached for each locale
+     */
+    private static final class CMessage implements Supplier<String>
+    {
+        /**
+         * class of the language string
+         */
+        private final Class<?> m_class;
+        /**
+         * label of the language string
+         */
+        private final String m_label;
+        /**
+         * language strings for each locale
+         */
+        private final Map<Locale, String> m_text = new ConcurrentHashMap<>();
+
+        /**
+         * ctor
+         *
+         * @param p_class class of the language string
+         * @param p_label label of the language string
+         */
+        CMessage( @Nonnull final Class<?> p_class, @Nonnull final String p_label )
+        {
+            m_class = p_class;
+            m_label = p_label;
+        }
+
+        @Override
+        public String get()
+        {
+            final Locale l_locale = Locale.getDefault();
+            final String l_text = m_text.get( l_locale );
+            if ( Objects.nonNull( l_text ) )
+                return l_text;
+
+            final String l_resolved = org.lightjason.agentspeak.common.CCommon.languagestring( m_class, m_label );
+            m_text.putIfAbsent( l_locale, l_resolved );
+            return l_resolved;
+        }
+    }
+
+    /**
+     * execution exception without stack trace
+     */
+    private static final class CStacklessExecutionException extends CExecutionException
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 3472908457018866212L;
+
+        /**
+         * ctor
+         *
+         * @param p_context execution context
+         */
+        CStacklessExecutionException( @Nonnull final IContext p_context )
+        {
+            super( p_context );
+        }
+
+        /**
+         * ctor
+         *
+         * @param p_context execution context
+         * @param p_message message
+         */
+        CStacklessExecutionException( @Nonnull final IContext p_context, @Nonnull final String p_message )
+        {
+            super( p_context, p_message );
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace()
+        {
+            return this;
+        }
+    }
+
+    /**
+     * illegal argument exception without stack trace
+     */
+    private static final class CStacklessExecutionIllegealArgumentException extends CExecutionIllegealArgumentException
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -6132937427703566208L;
+
+        /**
+         * ctor
+         *
+         * @param p_context execution context
+         * @param p_message message
+         */
+        CStacklessExecutionIllegealArgumentException( @Nonnull final IContext p_context, @Nonnull final String p_message )
+        {
+            super( p_context, p_message );
+        }
+
+        /**
+         * ctor
+         *
+         * @param p_context execution context
+         * @param p_cause cause
+         */
+        CStacklessExecutionIllegealArgumentException( @Nonnull final IContext p_context, @Nonnull final Throwable p_cause )
+        {
+            super( p_context, p_cause );
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace()
+        {
+            return this;
+        }
+    }
+
+    /**
+     * illegal argument exception with a lazy formatted message
+     */
+    private static class CLazyExecutionIllegealArgumentException extends CExecutionIllegealArgumentException
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 4829463521873046719L;
+        /**
+         * message pattern
+         */
+        private transient Supplier<String> m_pattern;
+        /**
+         * message arguments
+         */
+        private transient Object[] m_arguments;
+        /**
+         * formatted message
+         */
+        private volatile String m_message;
+
+        /**
+         * ctor
+         *
+         * @param p_context execution context
+         * @param p_pattern message pattern
+         * @param p_arguments message arguments
+         */
+        CLazyExecutionIllegealArgumentException( @Nonnull final IContext p_context, @Nonnull final Supplier<String> p_pattern,
+                                                 @Nonnull final Object[] p_arguments )
+        {
+            super( p_context, "" );
+            m_pattern = p_pattern;
+            m_arguments = p_arguments;
+        }
+
+        @Override
+        public String getMessage()
+        {
+            if ( Objects.nonNull( m_message ) )
+                return m_message;
+            if ( Objects.isNull( m_pattern ) )
+                return super.getMessage();
+
+            m_message = m_arguments.length == 0 ? m_pattern.get() : MessageFormat.format( m_pattern.get(), m_arguments );
+            m_pattern = null;
+            m_arguments = null;
+            return m_message;
+        }
+
+        /**
+         * formats the message before serialization
+         *
+         * @param p_stream output stream
+         * @throws IOException on serialization error
+         */
+        private void writeObject( final ObjectOutputStream p_stream ) throws IOException
+        {
+            this.getMessage();
+            p_stream.defaultWriteObject();
+        }
+    }
+
+    /**
+     * illegal argument exception with a lazy formatted message and without stack trace
+     */
+    private static final class CStacklessLazyExecutionIllegealArgumentException extends CLazyExecutionIllegealArgumentException
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -2217865032658490437L;
+
+        /**
+         * ctor
+         *
+         * @param p_context execution context
+         * @param p_pattern message pattern
+         * @param p_arguments message arguments
+         */
+        CStacklessLazyExecutionIllegealArgumentException( @Nonnull final IContext p_context, @Nonnull final Supplier<String> p_pattern,
+                                                          @Nonnull final Object[] p_arguments )
+        {
+            super( p_context, p_pattern, p_arguments );
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace()
+        {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Predicate;
+
+
+/**
+ * set of formatters.
+ * The set can be shared between actions, the formatter
+ * of a class is resolved once and cached, the cache
+ * is cleared on each modification of the set, on multiple
+ * matching formatters the first added formatter is used
+ */
+public final class CFormatterSet extends AbstractSet<IFormatter> implements Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3512087716283541079L;
+    /**
+     * formatters
+     */
+    private final Set<IFormatter> m_formatter = new CopyOnWriteArraySet<>();
+    /**
+     * formatter cache of the classes, the cache is replaced
+     * on modification, so a concurrent lookup cannot store
+     * an outdated formatter in the new cache
+     */
+    private transient volatile Map<Class<?>, Optional<IFormatter>> m_cache = new ConcurrentHashMap<>();
+
+    /**
+     * ctor
+     */
+    public CFormatterSet()
+    {
+        this( Collections.emptySet() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_formatter formatters
+     */
+    public CFormatterSet( @Nonnull final Collection<? extends IFormatter> p_formatter )
+    {
+        m_formatter.addAll( p_formatter );
+    }
+
+    /**
+     * formats a value with the formatter of the value class
+     *
+     * @param p_value value
+     * @return formatted string
+     */
+    @Nonnull
+    public String format( @Nonnull final Object p_value )
+    {
+        return this.formatter( p_value.getClass() )
+                   .map( i -> i.apply( p_value ) )
+                   .orElseGet( () -> CDoubleVector.string( p_value ) );
+    }
+
+    /**
+     * returns the formatter of a class
+     *
+     * @param p_class class
+     * @return optional formatter
+     */
+    @Nonnull
+    public Optional<IFormatter> formatter( @Nonnull final Class<?> p_class )
+    {
+        if ( m_formatter.isEmpty() )
+            return Optional.empty();
+
+        return m_cache.computeIfAbsent(
+            p_class,
+            i -> m_formatter.stream().filter( j -> j.get().isAssignableFrom( i ) ).findFirst()
+        );
+    }
+
+    @Override
+    public boolean add( @Nonnull final IFormatter p_formatter )
+    {
+        return this.invalidate( m_formatter.add( p_formatter ) );
+    }
+
+    @Override
+    public boolean remove( final Object p_formatter )
+    {
+        return this.invalidate( m_formatter.remove( p_formatter ) );
+    }
+
+    @Override
+    public boolean removeAll( @Nonnull final Collection<?> p_formatter )
+    {
+        return this.invalidate( m_formatter.removeAll( p_formatter ) );
+    }
+
+    @Override
+    public boolean retainAll( @Nonnull final Collection<?> p_formatter )
+    {
+        return this.invalidate( m_formatter.retainAll( p_formatter ) );
+    }
+
+    @Override
+    public boolean removeIf( @Nonnull final Predicate<? super IFormatter> p_filter )
+    {
+        return this.invalidate( m_formatter.removeIf( p_filter ) );
+    }
+
+    @Override
+    public void clear()
+    {
+        m_formatter.clear();
+        this.invalidate( true );
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<IFormatter> iterator()
+    {
+        return Collections.unmodifiableSet( m_formatter ).iterator();
+    }
+
+    @Override
+    public int size()
+    {
+        return m_formatter.size();
+    }
+
+    /**
+     * clears the cache on modification
+     *
+     * @param p_modified modification flag
+     * @return modification flag
+     */
+    private boolean invalidate( final boolean p_modified )
+    {
+        if ( p_modified )
+            m_cache = new ConcurrentHashMap<>();
+        return p_modified;
+    }
+
+    /**
+     * deserializable call
+     *
+     * @param p_stream object stream
+     * @throws IOException is thrown on io error
+     * @throws ClassNotFoundException is thrown on deserialization error
+     */
+    private void readObject( final ObjectInputStream p_stream ) throws IOException, ClassNotFoundException
+    {
+        p_stream.defaultReadObject();
+        m_cache = new ConcurrentHashMap<>();
+    }
+}
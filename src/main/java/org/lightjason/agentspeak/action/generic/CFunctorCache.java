@@ -0,0 +1,127 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * bounded cache of functor paths.
+ * The cache is split into stripes to reduce lock contention,
+ * each stripe removes the least recently used functor if
+ * the stripe is full, so functors which are used often
+ * stay within the cache
+ */
+final class CFunctorCache
+{
+    /**
+     * number of stripes (power of two)
+     */
+    private static final int STRIPES = 16;
+    /**
+     * stripes
+     */
+    private final List<Map<String, IPath>> m_stripes;
+
+    /**
+     * ctor
+     *
+     * @param p_size maximum number of functors, zero disables the cache
+     */
+    CFunctorCache( @Nonnegative final long p_size )
+    {
+        final int l_capacity = (int) Math.min( Integer.MAX_VALUE, ( p_size + STRIPES - 1 ) / STRIPES );
+        m_stripes = IntStream.range( 0, STRIPES )
+                             .mapToObj( i -> new CStripe( l_capacity ) )
+                             .collect( Collectors.toList() );
+    }
+
+    /**
+     * returns the path of a functor
+     *
+     * @param p_functor functor string
+     * @return functor path
+     */
+    @Nonnull
+    IPath get( @Nonnull final String p_functor )
+    {
+        final Map<String, IPath> l_stripe = m_stripes.get( p_functor.hashCode() & STRIPES - 1 );
+        synchronized ( l_stripe )
+        {
+            final IPath l_cached = l_stripe.get( p_functor );
+            if ( Objects.nonNull( l_cached ) )
+                return l_cached;
+        }
+
+        final IPath l_path = CPath.of( p_functor );
+        synchronized ( l_stripe )
+        {
+            l_stripe.putIfAbsent( p_functor, l_path );
+        }
+        return l_path;
+    }
+
+
+    /**
+     * stripe with least recently used order
+     */
+    private static final class CStripe extends LinkedHashMap<String, IPath>
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 2187733541402764529L;
+        /**
+         * maximum number of entries
+         */
+        private final int m_capacity;
+
+        /**
+         * ctor
+         *
+         * @param p_capacity maximum number of entries
+         */
+        CStripe( @Nonnegative final int p_capacity )
+        {
+            super( 16, 0.75f, true );
+            m_capacity = p_capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<String, IPath> p_eldest )
+        {
+            return this.size() > m_capacity;
+        }
+    }
+}
@@ -23,10 +23,7 @@
 
 package org.lightjason.agentspeak.action.generic;
 
-import com.codepoetics.protonpack.StreamUtils;
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -34,6 +31,10 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -42,11 +43,11 @@ import java.util.stream.Stream;
  * The action gets as arguments a tuple of arguments,
  * a boolean and numeric (normalized in [0,1]) value
  * and returns this values as result of the action,
- * the action fails on wrong input
+ * the action fails on wrong input or an odd number of arguments
  *
  * {@code .generic/fuzzyreturn( true, 0.4);}
  */
-public final class CFuzzyReturn extends IBaseAction
+public final class CFuzzyReturn extends IBaseGenericAction
 {
     /**
      * serial id
@@ -56,6 +57,14 @@ public final class CFuzzyReturn extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CFuzzyReturn.class, "generic" );
+    /**
+     * instance
+     */
+    public static final CFuzzyReturn INSTANCE = new CFuzzyReturn();
+    /**
+     * error message
+     */
+    private static final Supplier<String> ARGUMENTNUMBER = CException.message( CFuzzyReturn.class, "argumentnumber" );
 
     @Nonnull
     @Override
@@ -64,6 +73,16 @@ public final class CFuzzyReturn extends IBaseAction
         return NAME;
     }
 
+    /**
+     * resolves the deserialized action to the instance
+     *
+     * @return instance
+     */
+    private Object readResolve()
+    {
+        return INSTANCE;
+    }
+
     @Nonnegative
     @Override
     public int minimalArgumentNumber()
@@ -73,13 +92,15 @@ public final class CFuzzyReturn extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
     {
-        return StreamUtils.windowed(
-            CCommon.flatten( p_argument ),
-            2,
-            2
-        ).map( i -> p_context.agent().fuzzy().set().apply( i.get( 0 ).<String>raw(), i.get( 1 ).<Number>raw() ) );
+        final List<ITerm> l_arguments = CDoubleVector.flatten( p_argument ).collect( Collectors.toList() );
+        if ( l_arguments.size() % 2 != 0 )
+            throw CException.illegalargument( p_context, ARGUMENTNUMBER, l_arguments.size() );
+
+        final BiFunction<String, Number, IFuzzyValue<?>> l_set = p_context.agent().fuzzy().set()::apply;
+        return IntStream.range( 0, l_arguments.size() / 2 )
+                        .mapToObj( i -> l_set.apply( l_arguments.get( 2 * i ).<String>raw(), l_arguments.get( 2 * i + 1 ).<Number>raw() ) );
     }
 }
@@ -0,0 +1,175 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import javax.annotation.Nonnegative;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * lock-free histogram with log-linear buckets.
+ * Each power of two range is split into 16 linear sub-buckets,
+ * so the relative error of a value is less than 1/16, recording
+ * a value is a single atomic increment without allocation
+ */
+public final class CHistogram
+{
+    /**
+     * number of sub-bucket bits
+     */
+    private static final int SUBBITS = 4;
+    /**
+     * number of sub-buckets
+     */
+    private static final int SUBBUCKETS = 1 << SUBBITS;
+    /**
+     * bucket counts
+     */
+    private final AtomicLongArray m_buckets = new AtomicLongArray( 64 * SUBBUCKETS );
+    /**
+     * number of values
+     */
+    private final LongAdder m_count = new LongAdder();
+    /**
+     * sum of values
+     */
+    private final LongAdder m_sum = new LongAdder();
+    /**
+     * maximum value
+     */
+    private final LongAccumulator m_max = new LongAccumulator( Math::max, 0 );
+
+    /**
+     * records a value
+     *
+     * @param p_value non-negative value
+     */
+    public void record( @Nonnegative final long p_value )
+    {
+        final long l_value = Math.max( 0, p_value );
+        m_buckets.incrementAndGet( index( l_value ) );
+        m_count.increment();
+        m_sum.add( l_value );
+        m_max.accumulate( l_value );
+    }
+
+    /**
+     * returns the number of values
+     *
+     * @return count
+     */
+    public long count()
+    {
+        return m_count.sum();
+    }
+
+    /**
+     * returns the mean value
+     *
+     * @return mean
+     */
+    public double mean()
+    {
+        final long l_count = m_count.sum();
+        return l_count == 0 ? 0 : (double) m_sum.sum() / l_count;
+    }
+
+    /**
+     * returns the maximum value
+     *
+     * @return maximum
+     */
+    public long max()
+    {
+        return m_max.get();
+    }
+
+    /**
+     * returns the value at a percentile, the value
+     * is the lower bound of the matching bucket
+     *
+     * @param p_percentile percentile in [0,1]
+     * @return value
+     */
+    public long percentile( final double p_percentile )
+    {
+        final long l_count = m_count.sum();
+        if ( l_count == 0 )
+            return 0;
+
+        final long l_rank = Math.max( 1, (long) Math.ceil( Math.min( 1, Math.max( 0, p_percentile ) ) * l_count ) );
+        long l_sum = 0;
+        for ( int i = 0; i < m_buckets.length(); i++ )
+        {
+            l_sum += m_buckets.get( i );
+            if ( l_sum >= l_rank )
+                return Math.min( lowerbound( i ), m_max.get() );
+        }
+
+        return m_max.get();
+    }
+
+    /**
+     * resets the histogram
+     */
+    public void reset()
+    {
+        for ( int i = 0; i < m_buckets.length(); i++ )
+            m_buckets.set( i, 0 );
+        m_count.reset();
+        m_sum.reset();
+        m_max.reset();
+    }
+
+    /**
+     * returns the bucket index of a value
+     *
+     * @param p_value value
+     * @return index
+     */
+    private static int index( final long p_value )
+    {
+        if ( p_value < SUBBUCKETS )
+            return (int) p_value;
+
+        final int l_exponent = 63 - Long.numberOfLeadingZeros( p_value );
+        return ( l_exponent - SUBBITS + 1 ) * SUBBUCKETS + (int) ( p_value >>> l_exponent - SUBBITS & SUBBUCKETS - 1 );
+    }
+
+    /**
+     * returns the lower bound of a bucket
+     *
+     * @param p_index index
+     * @return lower bound value
+     */
+    private static long lowerbound( final int p_index )
+    {
+        if ( p_index < SUBBUCKETS )
+            return p_index;
+
+        return (long) ( SUBBUCKETS + p_index % SUBBUCKETS ) << p_index / SUBBUCKETS - 1;
+    }
+}
@@ -23,10 +23,7 @@
 
 package org.lightjason.agentspeak.action.generic;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -34,6 +31,7 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -44,11 +42,12 @@ import java.util.stream.Stream;
  * class name, and all other arguments are checked if
  * that are instances of this class, the action fails
  * if one of the arguments are not an instance of this
- * class or the class does not exist
+ * class or the class does not exist, the class is
+ * resolved by the class registry
  *
  * {@code .generic/is( "java.lang.String", X, Y, Z );}
  */
-public final class CIs extends IBaseAction
+public final class CIs extends IBaseGenericAction
 {
     /**
      * serial id
@@ -58,6 +57,14 @@ public final class CIs extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CIs.class, "generic" );
+    /**
+     * instance
+     */
+    public static final CIs INSTANCE = new CIs();
+    /**
+     * error message
+     */
+    private static final Supplier<String> CLASSNOTFOUND = CException.message( CIs.class, "classnotfound" );
 
     @Nonnull
     @Override
@@ -66,6 +73,16 @@ public final class CIs extends IBaseAction
         return NAME;
     }
 
+    /**
+     * resolves the deserialized action to the instance
+     *
+     * @return instance
+     */
+    private Object readResolve()
+    {
+        return INSTANCE;
+    }
+
     @Nonnegative
     @Override
     public int minimalArgumentNumber()
@@ -75,20 +92,15 @@ public final class CIs extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
-        final Class<?> l_class;
-        try
-        {
-            l_class = Class.forName( l_arguments.get( 0 ).raw() );
-        }
-        catch ( final ClassNotFoundException l_exception )
-        {
-            throw new CExecutionIllegealArgumentException( p_context, l_exception );
-        }
+        final List<ITerm> l_arguments = CDoubleVector.flatten( p_argument ).collect( Collectors.toList() );
+        final String l_name = l_arguments.get( 0 ).raw();
+        final Class<?> l_class = CClassRegistry.get( l_name ).orElseThrow(
+            () -> CException.illegalargument( p_context, CLASSNOTFOUND, l_name )
+        );
 
         return l_arguments.stream()
                           .skip( 1 )
@@ -23,9 +23,7 @@
 
 package org.lightjason.agentspeak.action.generic;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -45,7 +43,7 @@ import java.util.stream.Stream;
  *
  * {@code .generic/isnull(X,Y);}
  */
-public final class CIsNull extends IBaseAction
+public final class CIsNull extends IBaseGenericAction
 {
     /**
      * serial id
@@ -55,6 +53,10 @@ public final class CIsNull extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CIsNull.class, "generic" );
+    /**
+     * instance
+     */
+    public static final CIsNull INSTANCE = new CIsNull();
 
     @Nonnull
     @Override
@@ -63,6 +65,16 @@ public final class CIsNull extends IBaseAction
         return NAME;
     }
 
+    /**
+     * resolves the deserialized action to the instance
+     *
+     * @return instance
+     */
+    private Object readResolve()
+    {
+        return INSTANCE;
+    }
+
     @Nonnegative
     @Override
     public int minimalArgumentNumber()
@@ -72,11 +84,11 @@ public final class CIsNull extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        return CCommon.flatten( p_argument )
+        return CDoubleVector.flatten( p_argument )
                       .map( ITerm::raw )
                       .allMatch( Objects::isNull )
                ? p_context.agent().fuzzy().membership().success()
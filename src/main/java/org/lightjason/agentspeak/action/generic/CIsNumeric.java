@@ -23,9 +23,7 @@
 
 package org.lightjason.agentspeak.action.generic;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -44,7 +42,7 @@ import java.util.stream.Stream;
  *
  * {@code .generic/isnumeric( X, 3.5 );}
  */
-public final class CIsNumeric extends IBaseAction
+public final class CIsNumeric extends IBaseGenericAction
 {
     /**
      * serial id
@@ -54,6 +52,10 @@ public final class CIsNumeric extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CIsNumeric.class, "generic" );
+    /**
+     * instance
+     */
+    public static final CIsNumeric INSTANCE = new CIsNumeric();
 
     @Nonnull
     @Override
@@ -62,6 +64,16 @@ public final class CIsNumeric extends IBaseAction
         return NAME;
     }
 
+    /**
+     * resolves the deserialized action to the instance
+     *
+     * @return instance
+     */
+    private Object readResolve()
+    {
+        return INSTANCE;
+    }
+
     @Nonnegative
     @Override
     public int minimalArgumentNumber()
@@ -71,11 +83,11 @@ public final class CIsNumeric extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        return CCommon.flatten( p_argument )
+        return CDoubleVector.flatten( p_argument )
                       .map( ITerm::raw )
                       .allMatch( i -> i instanceof Number )
                ? p_context.agent().fuzzy().membership().success()
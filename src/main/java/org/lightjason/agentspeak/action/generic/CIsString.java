@@ -23,9 +23,7 @@
 
 package org.lightjason.agentspeak.action.generic;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -43,7 +41,7 @@ import java.util.stream.Stream;
  *
  * {@code .generic/isstring( "foo", "bar", 123 );}
  */
-public final class CIsString extends IBaseAction
+public final class CIsString extends IBaseGenericAction
 {
     /**
      * serial id
@@ -53,6 +51,10 @@ public final class CIsString extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CIsString.class, "generic" );
+    /**
+     * instance
+     */
+    public static final CIsString INSTANCE = new CIsString();
 
     @Nonnull
     @Override
@@ -61,6 +63,16 @@ public final class CIsString extends IBaseAction
         return NAME;
     }
 
+    /**
+     * resolves the deserialized action to the instance
+     *
+     * @return instance
+     */
+    private Object readResolve()
+    {
+        return INSTANCE;
+    }
+
     @Nonnegative
     @Override
     public int minimalArgumentNumber()
@@ -70,11 +82,11 @@ public final class CIsString extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        return CCommon.flatten( p_argument )
+        return CDoubleVector.flatten( p_argument )
                       .map( ITerm::raw )
                       .allMatch( i -> i instanceof String || i instanceof Character || i instanceof CharSequence )
                ? p_context.agent().fuzzy().membership().success()
@@ -0,0 +1,152 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+
+/**
+ * lazy term list.
+ * The list maps each argument on the first access and stores the
+ * result, so large results are not created before they are used, the
+ * cast, parse and type actions return a lazy list as one term, if the
+ * argument number is not lower than the threshold (configuration key
+ * action.generic.lazy, zero disables lazy lists), errors of the mapping
+ * are thrown on the access of the element
+ */
+public final class CLazyList extends AbstractList<ITerm> implements RandomAccess
+{
+    /**
+     * minimal argument number of lazy lists
+     */
+    private static final AtomicLong THRESHOLD = new AtomicLong( CConfiguration.get( "lazy", 0L ) );
+    /**
+     * arguments
+     */
+    private final List<ITerm> m_argument;
+    /**
+     * mapping function
+     */
+    private final Function<ITerm, ITerm> m_function;
+    /**
+     * mapped elements
+     */
+    private final AtomicReferenceArray<ITerm> m_elements;
+
+    /**
+     * ctor
+     *
+     * @param p_argument arguments
+     * @param p_function mapping function
+     */
+    private CLazyList( @Nonnull final List<ITerm> p_argument, @Nonnull final Function<ITerm, ITerm> p_function )
+    {
+        m_argument = p_argument;
+        m_function = p_function;
+        m_elements = new AtomicReferenceArray<>( p_argument.size() );
+    }
+
+    /**
+     * returns the minimal argument number of lazy lists
+     *
+     * @return threshold, zero if lazy lists are disabled
+     */
+    @Nonnegative
+    public static long threshold()
+    {
+        return THRESHOLD.get();
+    }
+
+    /**
+     * sets the minimal argument number of lazy lists
+     *
+     * @param p_threshold threshold, zero disables lazy lists
+     */
+    public static void threshold( @Nonnegative final long p_threshold )
+    {
+        THRESHOLD.set( Math.max( 0, p_threshold ) );
+    }
+
+    /**
+     * checks if lazy lists are enabled
+     *
+     * @return enabled flag
+     */
+    static boolean enabled()
+    {
+        return THRESHOLD.get() > 0;
+    }
+
+    /**
+     * checks if a lazy list should be used
+     *
+     * @param p_size argument number
+     * @return lazy flag
+     */
+    static boolean lazy( @Nonnegative final int p_size )
+    {
+        final long l_threshold = THRESHOLD.get();
+        return l_threshold > 0 && p_size >= l_threshold;
+    }
+
+    /**
+     * creates a term with a lazy list
+     *
+     * @param p_argument arguments
+     * @param p_function mapping function
+     * @return term
+     */
+    @Nonnull
+    public static ITerm of( @Nonnull final List<ITerm> p_argument, @Nonnull final Function<ITerm, ITerm> p_function )
+    {
+        return CRawTerm.of( new CLazyList( p_argument, p_function ) );
+    }
+
+    @Override
+    public ITerm get( final int p_index )
+    {
+        final ITerm l_element = m_elements.get( p_index );
+        if ( l_element != null )
+            return l_element;
+
+        final ITerm l_mapped = m_function.apply( m_argument.get( p_index ) );
+        return m_elements.compareAndSet( p_index, null, l_mapped ) ? l_mapped : m_elements.get( p_index );
+    }
+
+    @Override
+    public int size()
+    {
+        return m_argument.size();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import org.lightjason.agentspeak.language.ILiteral;
+
+import javax.annotation.Nonnull;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * weak interning pool of ground literals.
+ * Equal ground literals are mapped to the same instance, literals which
+ * are not referenced outside of the pool are removed by the garbage collector,
+ * the pool is split into stripes to reduce lock contention
+ */
+final class CLiteralPool
+{
+    /**
+     * number of stripes (power of two)
+     */
+    private static final int STRIPES = 64;
+    /**
+     * stripes
+     */
+    private final List<Map<ILiteral, WeakReference<ILiteral>>> m_stripes = IntStream.range( 0, STRIPES )
+                                                                                   .mapToObj( i -> new WeakHashMap<ILiteral, WeakReference<ILiteral>>() )
+                                                                                   .collect( Collectors.toList() );
+
+    /**
+     * returns the pooled instance of a literal, literals
+     * with variables are returned unchanged
+     *
+     * @param p_literal literal
+     * @return pooled literal
+     */
+    @Nonnull
+    ILiteral intern( @Nonnull final ILiteral p_literal )
+    {
+        if ( p_literal.hasVariable() )
+            return p_literal;
+
+        final Map<ILiteral, WeakReference<ILiteral>> l_stripe = m_stripes.get( p_literal.hashCode() & STRIPES - 1 );
+        synchronized ( l_stripe )
+        {
+            final WeakReference<ILiteral> l_reference = l_stripe.get( p_literal );
+            final ILiteral l_literal = Objects.isNull( l_reference ) ? null : l_reference.get();
+            if ( Objects.nonNull( l_literal ) )
+                return l_literal;
+
+            l_stripe.put( p_literal, new WeakReference<>( p_literal ) );
+            return p_literal;
+        }
+    }
+}
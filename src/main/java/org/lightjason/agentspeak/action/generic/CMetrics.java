@@ -0,0 +1,164 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import org.lightjason.agentspeak.common.CCommon;
+
+import javax.annotation.Nonnull;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+
+/**
+ * registry of the action metrics.
+ * The metrics are disabled on default and can be enabled by the
+ * configuration key action.generic.metrics or at runtime, each
+ * metric is registered as MBean (domain org.lightjason.agentspeak.action.generic)
+ * if the configuration key action.generic.metrics.jmx is set,
+ * registration failures are logged
+ */
+public final class CMetrics
+{
+    /**
+     * MBean domain
+     */
+    private static final String DOMAIN = "org.lightjason.agentspeak.action.generic";
+    /**
+     * logger
+     */
+    private static final Logger LOGGER = Logger.getLogger( CMetrics.class.getName() );
+    /**
+     * enable flag
+     */
+    private static final AtomicBoolean ENABLED = new AtomicBoolean( CConfiguration.get( "metrics", false ) );
+    /**
+     * JMX flag
+     */
+    private static final boolean JMX = CConfiguration.get( "metrics.jmx", true );
+    /**
+     * metrics for each action class
+     */
+    private static final Map<Class<?>, CActionMetric> METRICS = new ConcurrentHashMap<>();
+
+    /**
+     * ctor
+     */
+    private CMetrics()
+    {
+    }
+
+    /**
+     * returns if the metrics are enabled
+     *
+     * @return enable flag
+     */
+    public static boolean enabled()
+    {
+        return ENABLED.get();
+    }
+
+    /**
+     * enables or disables the metrics
+     *
+     * @param p_enabled enable flag
+     */
+    public static void enabled( final boolean p_enabled )
+    {
+        ENABLED.set( p_enabled );
+        IBaseGenericAction.instrumentation();
+    }
+
+    /**
+     * returns all metrics
+     *
+     * @return metric stream
+     */
+    @Nonnull
+    public static Stream<CActionMetric> metrics()
+    {
+        return METRICS.values().stream();
+    }
+
+    /**
+     * returns the metric of an action
+     *
+     * @param p_action action
+     * @return metric
+     */
+    @Nonnull
+    static CActionMetric metric( @Nonnull final IBaseGenericAction p_action )
+    {
+        final CActionMetric l_metric = METRICS.get( p_action.getClass() );
+        return Objects.nonNull( l_metric )
+               ? l_metric
+               : METRICS.computeIfAbsent( p_action.getClass(), i -> register( new CActionMetric( p_action.name().toString() ) ) );
+    }
+
+    /**
+     * registers a metric as MBean
+     *
+     * @param p_metric metric
+     * @return metric
+     */
+    @Nonnull
+    private static CActionMetric register( @Nonnull final CActionMetric p_metric )
+    {
+        if ( !JMX )
+            return p_metric;
+
+        try
+        {
+            ManagementFactory.getPlatformMBeanServer().registerMBean( p_metric, objectname( p_metric ) );
+        }
+        catch ( final JMException l_exception )
+        {
+            // the metric is still available via the registry
+            LOGGER.log( Level.WARNING, CCommon.languagestring( CMetrics.class, "register", p_metric.getName() ), l_exception );
+        }
+
+        return p_metric;
+    }
+
+    /**
+     * returns the MBean name of a metric
+     *
+     * @param p_metric metric
+     * @return object name
+     * @throws MalformedObjectNameException on an invalid name
+     */
+    @Nonnull
+    static ObjectName objectname( @Nonnull final CActionMetric p_metric ) throws MalformedObjectNameException
+    {
+        return new ObjectName( DOMAIN + ":type=action,name=" + ObjectName.quote( p_metric.getName() ) );
+    }
+}
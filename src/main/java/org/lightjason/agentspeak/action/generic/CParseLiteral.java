@@ -51,6 +51,10 @@ public final class CParseLiteral extends IParse
      * action name
      */
     private static final IPath NAME = namebyclass( CParseLiteral.class, "generic" );
+    /**
+     * instance
+     */
+    public static final CParseLiteral INSTANCE = new CParseLiteral();
 
     @Nonnull
     @Override
@@ -59,6 +63,16 @@ public final class CParseLiteral extends IParse
         return NAME;
     }
 
+    /**
+     * resolves the deserialized action to the instance
+     *
+     * @return instance
+     */
+    private Object readResolve()
+    {
+        return INSTANCE;
+    }
+
     /**
      * parses the input string
      *
@@ -26,17 +26,23 @@ package org.lightjason.agentspeak.action.generic;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
 
 import javax.annotation.Nonnull;
 import java.util.AbstractMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 /**
  * action for parsing a number of string.
  * Parses each argument to a number value
  * and returns the value, the action fails on
- * parsing errors
+ * parsing errors, in packed mode all values are
+ * returned as one packed double vector
  *
  * {@code [X|Y|Z] = .generic/parsenumber( "1.45", ["8.88", "9"] );}
  */
@@ -50,6 +56,32 @@ public final class CParseNumber extends IParse
      * action name
      */
     private static final IPath NAME = namebyclass( CParseNumber.class, "generic" );
+    /**
+     * instance
+     */
+    public static final CParseNumber INSTANCE = new CParseNumber();
+    /**
+     * packed mode
+     */
+    private final boolean m_packed;
+
+    /**
+     * ctor
+     */
+    public CParseNumber()
+    {
+        this( false );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_packed returns the values as packed double vector
+     */
+    public CParseNumber( final boolean p_packed )
+    {
+        m_packed = p_packed;
+    }
 
     @Nonnull
     @Override
@@ -58,6 +90,27 @@ public final class CParseNumber extends IParse
         return NAME;
     }
 
+    /**
+     * resolves the deserialized action to the instance
+     *
+     * @return instance
+     */
+    private Object readResolve()
+    {
+        return m_packed ? this : INSTANCE;
+    }
+
+    @Override
+    protected boolean parseall( @Nonnull final IContext p_context, @Nonnull final Stream<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    {
+        if ( !m_packed )
+            return super.parseall( p_context, p_argument, p_return );
+
+        final Optional<double[]> l_values = CDoubleVector.parse( p_argument.collect( Collectors.toList() ) );
+        l_values.ifPresent( i -> p_return.add( CDoubleVector.of( i ) ) );
+        return l_values.isPresent();
+    }
+
     /**
      * parses the input string
      *
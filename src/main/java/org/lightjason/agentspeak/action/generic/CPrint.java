@@ -23,7 +23,6 @@
 
 package org.lightjason.agentspeak.action.generic;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.common.ISupplier;
 import org.lightjason.agentspeak.language.ITerm;
@@ -32,17 +31,16 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.io.ObjectInputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.PrintStream;
-import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -50,11 +48,15 @@ import java.util.stream.Stream;
 /**
  * action for sum of elements.
  * Prints a set of messages to the commandline / output-stream, the command
- * can be used with a variable set of arguments
+ * can be used with a variable set of arguments, the action is
+ * serialized in a compact form with the stream supplier, separator and
+ * formatters, the print stream is recreated by the supplier on deserialization,
+ * additional asynchronous sinks can be set, each record is formatted once and
+ * published to the stream and all sinks
  *
  * {@code .generic/print("string A=", A, "-- B=", B, "-- C=", C, "-- D=", D, "-- X=", X, "-- Y=", Y);}
  */
-public final class CPrint extends IBaseAction
+public final class CPrint extends IBaseGenericAction implements Externalizable
 {
     /**
      * serial id
@@ -71,15 +73,19 @@ public final class CPrint extends IBaseAction
     /**
      * supplier of print stream field
      */
-    private final ISupplier<PrintStream> m_streamsupplier;
+    private ISupplier<PrintStream> m_streamsupplier;
     /**
      * argument seperator
      */
-    private final String m_seperator;
+    private String m_seperator;
     /**
      * list mit individual format calls
      */
-    private final Set<IFormatter> m_formatter;
+    private CFormatterSet m_formatter;
+    /**
+     * asynchronous sinks
+     */
+    private List<CSink> m_sinks;
 
     /**
      * ctor
@@ -113,11 +119,42 @@ public final class CPrint extends IBaseAction
      */
     public CPrint( @Nonnull final ISupplier<PrintStream> p_streamsupplier, @Nonnull final String p_seperator, @Nullable final IFormatter... p_formatter )
         throws Exception
+    {
+        this( p_streamsupplier, p_seperator, Collections.emptyList(), p_formatter );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_seperator argument seperator
+     * @param p_sinks sinks
+     * @param p_formatter formatter elements
+     * @throws Exception is thrown on supplierer error
+     */
+    public CPrint( @Nonnull final String p_seperator, @Nonnull final Collection<CSink> p_sinks, @Nullable final IFormatter... p_formatter )
+        throws Exception
+    {
+        this( null, p_seperator, p_sinks, p_formatter );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_streamsupplier print stream supplier or null
+     * @param p_seperator argument seperator
+     * @param p_sinks sinks
+     * @param p_formatter formatter elements
+     * @throws Exception is thrown on supplierer error
+     */
+    private CPrint( @Nullable final ISupplier<PrintStream> p_streamsupplier, @Nonnull final String p_seperator,
+                    @Nonnull final Collection<CSink> p_sinks, @Nullable final IFormatter[] p_formatter
+    ) throws Exception
     {
         m_streamsupplier = p_streamsupplier;
-        m_stream = m_streamsupplier.get();
+        m_stream = Objects.isNull( m_streamsupplier ) ? null : m_streamsupplier.get();
         m_seperator = p_seperator;
-        m_formatter = Objects.nonNull( p_formatter ) ? new HashSet<>( Arrays.asList( p_formatter ) ) : Collections.emptySet();
+        m_sinks = List.copyOf( p_sinks );
+        m_formatter = new CFormatterSet( Objects.nonNull( p_formatter ) ? Arrays.asList( p_formatter ) : Collections.emptySet() );
     }
 
     @Nonnull
@@ -127,36 +164,74 @@ public final class CPrint extends IBaseAction
         return NAME;
     }
 
+    @Override
+    public void writeExternal( final ObjectOutput p_output ) throws IOException
+    {
+        p_output.writeObject( m_streamsupplier );
+        p_output.writeUTF( m_seperator );
+        p_output.writeInt( m_sinks.size() );
+        for ( final CSink l_sink : m_sinks )
+            p_output.writeObject( l_sink );
+        p_output.writeObject( m_formatter );
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public void readExternal( final ObjectInput p_input ) throws IOException, ClassNotFoundException
+    {
+        m_streamsupplier = (ISupplier<PrintStream>) p_input.readObject();
+        m_seperator = p_input.readUTF();
+
+        final CSink[] l_sinks = new CSink[p_input.readInt()];
+        for ( int i = 0; i < l_sinks.length; i++ )
+            l_sinks[i] = (CSink) p_input.readObject();
+        m_sinks = List.of( l_sinks );
+
+        m_formatter = (CFormatterSet) p_input.readObject();
+
+        try
+        {
+            m_stream = Objects.isNull( m_streamsupplier ) ? null : m_streamsupplier.get();
+        }
+        catch ( final Exception l_exception )
+        {
+            throw new IOException( l_exception );
+        }
+    }
+
     /**
-     * deserializable call
+     * returns the sinks
      *
-     * @param p_stream object stream
-     * @throws Exception is thrown on io error
-     * @throws Exception is thrown on deserialization error
+     * @return unmodifiable sink list
      */
-    private void readObject( final ObjectInputStream p_stream ) throws Exception
+    public List<CSink> sinks()
     {
-        p_stream.defaultReadObject();
-        m_stream = m_streamsupplier.get();
+        return m_sinks;
     }
 
     /**
-     * returns the formatter list
+     * returns the formatter set, the set can be shared with the string cast
      *
      * @return formatter set
      */
-    public Set<IFormatter> formatter()
+    public CFormatterSet formatter()
     {
         return m_formatter;
     }
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        m_stream.println( MessageFormat.format( "{0}", this.format( p_argument ) ) );
+        final String l_text = this.format( p_argument );
+
+        if ( Objects.nonNull( m_stream ) )
+            m_stream.println( l_text );
+        for ( final CSink l_sink : m_sinks )
+            l_sink.accept( l_text );
+
         return Stream.empty();
     }
 
@@ -171,20 +246,7 @@ public final class CPrint extends IBaseAction
     {
         return p_argument.stream()
                          .map( ITerm::raw )
-                         .map( i ->
-                         {
-                             if ( Objects.isNull( i ) )
-                                 return "";
-
-                             final Optional<IFormatter> l_formatter = m_formatter.parallelStream()
-                                                                                 .filter( j -> j.get().isAssignableFrom( i.getClass() ) )
-                                                                                 .limit( 1 )
-                                                                                 .findFirst();
-
-                             return l_formatter.isPresent()
-                                    ? l_formatter.get().apply( i )
-                                    : i.toString();
-                         } )
+                         .map( i -> Objects.isNull( i ) ? "" : m_formatter.format( i ) )
                          .collect( Collectors.joining( m_seperator ) );
     }
 
@@ -0,0 +1,369 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.common.ISupplier;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+
+/**
+ * asynchronous sink of the print action.
+ * Each sink has got an own bounded queue and worker thread, so a slow
+ * sink does not block the agent or other sinks, on a full queue a record
+ * is dropped by the overflow policy, the consumer is created by a supplier,
+ * so it is recreated on deserialization, the worker thread is started
+ * on the first record or by an explicit start call, on closing the
+ * queued records are written and a closeable consumer is closed
+ */
+public final class CSink implements Consumer<String>, AutoCloseable, Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5340146359428767094L;
+    /**
+     * maximum time in milliseconds to wait for the worker on closing
+     */
+    private static final long CLOSETIMEOUT = CConfiguration.get( "sink.closetimeout", 5000L );
+    /**
+     * consumer supplier
+     */
+    private final ISupplier<Consumer<String>> m_supplier;
+    /**
+     * queue capacity
+     */
+    private final int m_capacity;
+    /**
+     * overflow policy
+     */
+    private final EOverflow m_overflow;
+    /**
+     * number of dropped records
+     */
+    private transient LongAdder m_dropped;
+    /**
+     * number of consumer errors
+     */
+    private transient LongAdder m_errors;
+    /**
+     * record queue
+     */
+    private transient BlockingQueue<String> m_queue;
+    /**
+     * worker thread
+     */
+    private transient volatile Thread m_worker;
+    /**
+     * closed flag
+     */
+    private transient volatile boolean m_closed;
+
+    /**
+     * ctor
+     *
+     * @param p_supplier consumer supplier
+     * @param p_capacity queue capacity
+     * @param p_overflow overflow policy
+     * @throws Exception is thrown on supplier error
+     */
+    public CSink( @Nonnull final ISupplier<Consumer<String>> p_supplier, @Nonnegative final int p_capacity, @Nonnull final EOverflow p_overflow )
+        throws Exception
+    {
+        if ( p_capacity < 1 )
+            throw new IllegalArgumentException( CCommon.languagestring( CSink.class, "capacity", p_capacity ) );
+
+        m_supplier = p_supplier;
+        m_capacity = p_capacity;
+        m_overflow = p_overflow;
+        this.initialize();
+    }
+
+    /**
+     * creates a sink of a print stream
+     *
+     * @param p_stream print stream supplier
+     * @param p_capacity queue capacity
+     * @param p_overflow overflow policy
+     * @return sink
+     * @throws Exception is thrown on supplier error
+     */
+    @Nonnull
+    public static CSink of( @Nonnull final ISupplier<PrintStream> p_stream, @Nonnegative final int p_capacity, @Nonnull final EOverflow p_overflow )
+        throws Exception
+    {
+        return new CSink( () -> new CStreamConsumer( p_stream.get() ), p_capacity, p_overflow );
+    }
+
+    @Override
+    public void accept( @Nonnull final String p_record )
+    {
+        if ( Objects.isNull( m_worker ) )
+            try
+            {
+                this.start();
+            }
+            catch ( final Exception l_exception )
+            {
+                throw new IllegalStateException( l_exception );
+            }
+
+        if ( m_closed )
+        {
+            m_dropped.increment();
+            return;
+        }
+
+        if ( m_queue.offer( p_record ) )
+            return;
+
+        m_dropped.increment();
+        if ( EOverflow.DROPOLDEST.equals( m_overflow ) )
+            while ( !m_queue.offer( p_record ) )
+                m_queue.poll();
+    }
+
+    /**
+     * returns the number of dropped records
+     *
+     * @return dropped records
+     */
+    @Nonnegative
+    public long dropped()
+    {
+        return m_dropped.sum();
+    }
+
+    /**
+     * returns the number of records on which the consumer fails
+     *
+     * @return consumer errors
+     */
+    @Nonnegative
+    public long errors()
+    {
+        return m_errors.sum();
+    }
+
+    /**
+     * returns if the worker is started
+     *
+     * @return started flag
+     */
+    public boolean started()
+    {
+        return Objects.nonNull( m_worker );
+    }
+
+    /**
+     * returns the number of queued records
+     *
+     * @return queued records
+     */
+    @Nonnegative
+    public int queued()
+    {
+        return m_queue.size();
+    }
+
+    /**
+     * creates the consumer and starts the worker,
+     * a started or closed sink is not changed
+     *
+     * @throws Exception is thrown on supplier error
+     */
+    public synchronized void start() throws Exception
+    {
+        if ( m_closed || Objects.nonNull( m_worker ) )
+            return;
+
+        final Consumer<String> l_consumer = m_supplier.get();
+        final Thread l_worker = new Thread( () -> this.work( l_consumer ), "generic-print-sink" );
+        l_worker.setDaemon( true );
+        l_worker.start();
+        m_worker = l_worker;
+    }
+
+    /**
+     * closes the sink, the worker writes the queued records
+     * and closes the consumer, the call waits for the worker
+     * (configuration key action.generic.sink.closetimeout)
+     */
+    @Override
+    public synchronized void close()
+    {
+        m_closed = true;
+        if ( Objects.isNull( m_worker ) )
+            return;
+
+        m_worker.interrupt();
+        try
+        {
+            m_worker.join( CLOSETIMEOUT );
+        }
+        catch ( final InterruptedException l_exception )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * deserializable call
+     *
+     * @param p_stream object stream
+     * @throws IOException is thrown on io error
+     * @throws ClassNotFoundException is thrown on deserialization error
+     */
+    private void readObject( final ObjectInputStream p_stream ) throws IOException, ClassNotFoundException
+    {
+        p_stream.defaultReadObject();
+        this.initialize();
+    }
+
+    /**
+     * creates the queue and the counters
+     */
+    private void initialize()
+    {
+        m_dropped = new LongAdder();
+        m_errors = new LongAdder();
+        m_queue = new ArrayBlockingQueue<>( m_capacity );
+    }
+
+    /**
+     * worker loop
+     *
+     * @param p_consumer consumer
+     */
+    private void work( @Nonnull final Consumer<String> p_consumer )
+    {
+        while ( !Thread.currentThread().isInterrupted() )
+            try
+            {
+                this.consume( p_consumer, m_queue.take() );
+            }
+            catch ( final InterruptedException l_exception )
+            {
+                Thread.currentThread().interrupt();
+            }
+
+        // the sink is closed, so the remaining records are written before the consumer is closed
+        Thread.interrupted();
+        for ( String l_record = m_queue.poll(); Objects.nonNull( l_record ); l_record = m_queue.poll() )
+            this.consume( p_consumer, l_record );
+
+        if ( p_consumer instanceof AutoCloseable )
+            try
+            {
+                ( (AutoCloseable) p_consumer ).close();
+            }
+            catch ( final Exception l_exception )
+            {
+                m_errors.increment();
+            }
+    }
+
+    /**
+     * passes a record to the consumer
+     *
+     * @param p_consumer consumer
+     * @param p_record record
+     */
+    private void consume( @Nonnull final Consumer<String> p_consumer, @Nonnull final String p_record )
+    {
+        try
+        {
+            p_consumer.accept( p_record );
+        }
+        catch ( final RuntimeException l_exception )
+        {
+            // a failing consumer must not stop the sink
+            m_errors.increment();
+        }
+    }
+
+
+    /**
+     * consumer of a print stream, the stream is flushed on closing
+     * and closed if it is not the standard output or error stream
+     */
+    private static final class CStreamConsumer implements Consumer<String>, AutoCloseable
+    {
+        /**
+         * print stream
+         */
+        private final PrintStream m_stream;
+
+        /**
+         * ctor
+         *
+         * @param p_stream print stream
+         */
+        CStreamConsumer( @Nonnull final PrintStream p_stream )
+        {
+            m_stream = p_stream;
+        }
+
+        @Override
+        public void accept( @Nonnull final String p_record )
+        {
+            m_stream.println( p_record );
+        }
+
+        @Override
+        public void close()
+        {
+            m_stream.flush();
+            if ( !System.out.equals( m_stream ) && !System.err.equals( m_stream ) )
+                m_stream.close();
+        }
+    }
+
+
+    /**
+     * overflow policy
+     */
+    public enum EOverflow
+    {
+        /**
+         * drops the new record
+         */
+        DROPNEWEST,
+        /**
+         * drops the oldest queued record
+         */
+        DROPOLDEST;
+    }
+}
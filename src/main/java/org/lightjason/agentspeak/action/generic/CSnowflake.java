@@ -0,0 +1,181 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+
+/**
+ * create an unique 64 bit id.
+ * The action creates a snowflake id, which consists of 41 bits
+ * milliseconds since the epoch, 10 bits node id and a 12 bits
+ * sequence, an optional argument defines the number of ids, the
+ * action fails if the number is not a positive number.
+ * The node id and the epoch are read from the configuration
+ * (keys action.generic.snowflake.node and action.generic.snowflake.epoch),
+ * on a sequence overflow or a clock regression the timestamp runs
+ * ahead of the clock, so ids are always increasing within the process
+ *
+ * {@code I1 = .generic/snowflake(); [I2|I3|I4] = .generic/snowflake( 3 );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Snowflake_ID"></a>
+ */
+public final class CSnowflake extends IBaseGenericAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2391787427962851652L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CSnowflake.class, "generic" );
+    /**
+     * error message of an invalid count
+     */
+    private static final Supplier<String> COUNT = CException.message( CSnowflake.class, "count" );
+    /**
+     * number of node bits
+     */
+    private static final int NODEBITS = 10;
+    /**
+     * number of sequence bits
+     */
+    private static final int SEQUENCEBITS = 12;
+    /**
+     * sequence mask
+     */
+    private static final long SEQUENCEMASK = ( 1L << SEQUENCEBITS ) - 1;
+    /**
+     * state with absolute timestamp and sequence of the process,
+     * the timestamp is independent of the epoch, so generators
+     * with different epochs can share the state
+     */
+    private static final AtomicLong STATE = new AtomicLong();
+    /**
+     * node id
+     */
+    private final long m_node;
+    /**
+     * epoch in milliseconds
+     */
+    private final long m_epoch;
+
+    /**
+     * ctor
+     *
+     * @note node id and epoch are read from the configuration
+     */
+    public CSnowflake()
+    {
+        this( CConfiguration.get( "snowflake.node", 0L ), CConfiguration.get( "snowflake.epoch", 1577836800000L ) );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_node node id
+     * @param p_epoch epoch in milliseconds
+     */
+    public CSnowflake( @Nonnegative final long p_node, @Nonnegative final long p_epoch )
+    {
+        if ( p_node < 0 || p_node >= 1L << NODEBITS )
+            throw new IllegalArgumentException( CCommon.languagestring( CSnowflake.class, "node", p_node, ( 1L << NODEBITS ) - 1 ) );
+
+        m_node = p_node;
+        m_epoch = p_epoch;
+    }
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnull
+    @Override
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context, @Nonnull final List<ITerm> p_argument,
+                                          @Nonnull final List<ITerm> p_return
+    )
+    {
+        final int l_count = count( p_context, p_argument );
+        for ( int i = 0; i < l_count; i++ )
+            p_return.add( CRawTerm.of( this.next() ) );
+
+        return Stream.empty();
+    }
+
+    /**
+     * returns the number of ids
+     *
+     * @param p_context execution context
+     * @param p_argument arguments
+     * @return number of ids
+     */
+    private static int count( @Nonnull final IContext p_context, @Nonnull final List<ITerm> p_argument )
+    {
+        if ( p_argument.isEmpty() )
+            return 1;
+
+        final Object l_value = p_argument.get( 0 ).raw();
+        if ( !( l_value instanceof Number ) || ( (Number) l_value ).longValue() < 1 || ( (Number) l_value ).longValue() > Integer.MAX_VALUE )
+            throw CException.illegalargument( p_context, COUNT, l_value );
+
+        return ( (Number) l_value ).intValue();
+    }
+
+    /**
+     * creates the next id
+     *
+     * @return id
+     */
+    private long next()
+    {
+        final long l_now = System.currentTimeMillis();
+
+        for ( ;; )
+        {
+            final long l_last = STATE.get();
+            final long l_next = l_now > l_last >>> SEQUENCEBITS
+                                ? l_now << SEQUENCEBITS
+                                : l_last + 1;
+
+            if ( STATE.compareAndSet( l_last, l_next ) )
+                return ( ( l_next >>> SEQUENCEBITS ) - m_epoch ) << NODEBITS + SEQUENCEBITS | m_node << SEQUENCEBITS | l_next & SEQUENCEMASK;
+        }
+    }
+}
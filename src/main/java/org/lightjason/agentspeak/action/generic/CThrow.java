@@ -23,9 +23,7 @@
 
 package org.lightjason.agentspeak.action.generic;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.error.context.CExecutionException;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -44,7 +42,7 @@ import java.util.stream.Stream;
  *
  * {@code .generic/throw( true, "a message" );}
  */
-public final class CThrow extends IBaseAction
+public final class CThrow extends IBaseGenericAction
 {
     /**
      * serial id
@@ -54,6 +52,10 @@ public final class CThrow extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CThrow.class, "generic" );
+    /**
+     * instance
+     */
+    public static final CThrow INSTANCE = new CThrow();
 
     @Nonnull
     @Override
@@ -62,6 +64,16 @@ public final class CThrow extends IBaseAction
         return NAME;
     }
 
+    /**
+     * resolves the deserialized action to the instance
+     *
+     * @return instance
+     */
+    private Object readResolve()
+    {
+        return INSTANCE;
+    }
+
     @Nonnegative
     @Override
     public int minimalArgumentNumber()
@@ -71,12 +83,12 @@ public final class CThrow extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
         if ( p_argument.get( 0 ).raw() )
-            throw p_argument.size() == 1 ? new CExecutionException( p_context ) : new CExecutionException(
+            throw p_argument.size() == 1 ? CException.execution( p_context ) : CException.execution(
                 p_context, p_argument.get( 1 ).<String>raw()
             );
         return Stream.empty();
@@ -26,15 +26,24 @@ package org.lightjason.agentspeak.action.generic;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
 
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 
 /**
  * action to cast a value to a number value.
  * Cast any argument into a number,
- * the action fails on casting errors
+ * the action fails on casting errors, raw terms
+ * with a double value are returned without copy
+ * and the terms of small integral values are cached,
+ * in packed mode all values are returned as one packed
+ * double vector, numeric arrays are added to the vector
  *
  * {@code [N1|N2] = .generic/tonumber( X, Y );}
  */
@@ -48,6 +57,44 @@ public final class CToNumber extends ICast
      * action name
      */
     private static final IPath NAME = namebyclass( CToNumber.class, "generic" );
+    /**
+     * instance
+     */
+    public static final CToNumber INSTANCE = new CToNumber();
+    /**
+     * lowest cached integral value
+     */
+    private static final long CACHELOW = -128;
+    /**
+     * bits of negative zero
+     */
+    private static final long NEGATIVEZERO = Double.doubleToRawLongBits( -0.0 );
+    /**
+     * terms of the cached integral values
+     */
+    private static final ITerm[] CACHE = cache( CConfiguration.get( "tonumber.cache", 1024L ) );
+    /**
+     * packed mode
+     */
+    private final boolean m_packed;
+
+    /**
+     * ctor
+     */
+    public CToNumber()
+    {
+        this( false );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_packed returns the values as packed double vector
+     */
+    public CToNumber( final boolean p_packed )
+    {
+        m_packed = p_packed;
+    }
 
     @Nonnull
     @Override
@@ -56,12 +103,41 @@ public final class CToNumber extends ICast
         return NAME;
     }
 
+    /**
+     * resolves the deserialized action to the instance
+     *
+     * @return instance
+     */
+    private Object readResolve()
+    {
+        return m_packed ? this : INSTANCE;
+    }
+
+    @Override
+    protected boolean castall( final boolean p_parallel, @Nonnull final IContext p_context, @Nonnull final Stream<ITerm> p_argument,
+                               @Nonnull final List<ITerm> p_return )
+    {
+        if ( !m_packed )
+            return super.castall( p_parallel, p_context, p_argument, p_return );
+
+        final Optional<double[]> l_values = CDoubleVector.convert( p_argument.collect( Collectors.toList() ) );
+        l_values.ifPresent( i -> p_return.add( CDoubleVector.of( i ) ) );
+        return l_values.isPresent();
+    }
+
     @Override
     protected boolean cast( @Nonnull final ITerm p_value, @Nonnull final List<ITerm> p_return )
     {
         try
         {
-            p_return.add( CRawTerm.of( p_value.<Number>raw().doubleValue() ) );
+            final Number l_number = p_value.raw();
+            if ( l_number instanceof Double && p_value instanceof CRawTerm<?> )
+            {
+                p_return.add( p_value );
+                return true;
+            }
+
+            p_return.add( term( l_number.doubleValue() ) );
             return true;
         }
         catch ( final Exception l_exception )
@@ -70,4 +146,34 @@ public final class CToNumber extends ICast
         }
     }
 
+    /**
+     * creates the terms of the cached integral values
+     *
+     * @param p_upper exclusive upper bound of the cached values, zero or less disables the cache
+     * @return cached terms
+     */
+    @Nonnull
+    static ITerm[] cache( final long p_upper )
+    {
+        return p_upper <= 0
+               ? new ITerm[0]
+               : LongStream.range( CACHELOW, p_upper ).mapToObj( i -> CRawTerm.of( (double) i ) ).toArray( ITerm[]::new );
+    }
+
+    /**
+     * returns the term of a value, terms of small
+     * integral values are read from the cache
+     *
+     * @param p_value value
+     * @return term
+     */
+    @Nonnull
+    private static ITerm term( final double p_value )
+    {
+        final long l_index = (long) p_value - CACHELOW;
+        return l_index >= 0 && l_index < CACHE.length && l_index + CACHELOW == p_value && Double.doubleToRawLongBits( p_value ) != NEGATIVEZERO
+               ? CACHE[(int) l_index]
+               : CRawTerm.of( p_value );
+    }
+
 }
@@ -27,14 +27,27 @@ import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.LongStream;
 
 
 /**
  * converts a value into the string represenation.
  * The action converts any argument into the string
- * represenation, the action never fails
+ * represenation, the action never fails, the string terms
+ * of small integer and boolean values are precomputed and optional
+ * the strings can be deduplicated by a bounded table, on a collision
+ * the older entry is replaced, the formatters can be shared
+ * with the print action, so values are converted in the same way
+ *
+ * {@code
+ * final CPrint l_print = new CPrint();
+ * final CToString l_tostring = new CToString( l_print.formatter() );
+ * }
  *
  * {@code [A|B] = .generic/tostring( 1, "foo" );}
  */
@@ -48,6 +61,79 @@ public final class CToString extends ICast
      * action name
      */
     private static final IPath NAME = namebyclass( CToString.class, "generic" );
+    /**
+     * lowest precomputed integer value
+     */
+    private static final long CACHELOW = -128;
+    /**
+     * terms of the precomputed integer values
+     */
+    private static final ITerm[] CACHE = cache( CConfiguration.get( "tostring.cache", 1024L ) );
+    /**
+     * term of true
+     */
+    private static final ITerm TRUE = CRawTerm.of( Boolean.TRUE.toString() );
+    /**
+     * term of false
+     */
+    private static final ITerm FALSE = CRawTerm.of( Boolean.FALSE.toString() );
+    /**
+     * maximum string length of deduplication
+     */
+    private static final int DEDUPLENGTH = 256;
+    /**
+     * size of the deduplication table
+     */
+    private final int m_size;
+    /**
+     * deduplication table
+     */
+    private final transient AtomicReferenceArray<ITerm> m_table;
+    /**
+     * formatters
+     */
+    private final CFormatterSet m_formatter;
+
+    /**
+     * ctor
+     */
+    public CToString()
+    {
+        this( (int) CConfiguration.get( "tostring.deduplication", 0L ) );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_size size of the deduplication table, zero disables the deduplication
+     */
+    public CToString( @Nonnegative final int p_size )
+    {
+        this( p_size, new CFormatterSet() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_formatter formatters, e.g. the formatters of the print action
+     */
+    public CToString( @Nonnull final CFormatterSet p_formatter )
+    {
+        this( (int) CConfiguration.get( "tostring.deduplication", 0L ), p_formatter );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_size size of the deduplication table, zero disables the deduplication
+     * @param p_formatter formatters, e.g. the formatters of the print action
+     */
+    public CToString( @Nonnegative final int p_size, @Nonnull final CFormatterSet p_formatter )
+    {
+        m_formatter = p_formatter;
+        m_size = p_size <= 0 ? 0 : Integer.highestOneBit( Math.max( 1, p_size - 1 ) ) << 1;
+        m_table = m_size == 0 ? null : new AtomicReferenceArray<>( m_size );
+    }
 
     @Nonnull
     @Override
@@ -56,6 +142,28 @@ public final class CToString extends ICast
         return NAME;
     }
 
+    /**
+     * recreates the deduplication table of the deserialized action, the
+     * formatter set is kept, because it can be shared with a print action
+     *
+     * @return action
+     */
+    private Object readResolve()
+    {
+        return new CToString( m_size, m_formatter );
+    }
+
+    /**
+     * returns the formatter set
+     *
+     * @return formatter set
+     */
+    @Nonnull
+    public CFormatterSet formatter()
+    {
+        return m_formatter;
+    }
+
     /**
      * cast / translates value
      *
@@ -65,8 +173,73 @@ public final class CToString extends ICast
      */
     protected boolean cast( @Nonnull final ITerm p_value, @Nonnull final List<ITerm> p_return )
     {
-        p_return.add( CRawTerm.of( p_value.raw().toString() ) );
+        p_return.add( this.term( p_value.raw() ) );
         return true;
     }
 
+    /**
+     * creates the terms of the precomputed integer values
+     *
+     * @param p_upper exclusive upper bound of the precomputed values, zero or less disables the cache
+     * @return precomputed terms
+     */
+    @Nonnull
+    static ITerm[] cache( final long p_upper )
+    {
+        return p_upper <= 0
+               ? new ITerm[0]
+               : LongStream.range( CACHELOW, p_upper ).mapToObj( i -> CRawTerm.of( Long.toString( i ) ) ).toArray( ITerm[]::new );
+    }
+
+    /**
+     * returns the string term of a value
+     *
+     * @param p_value value
+     * @return string term
+     */
+    @Nonnull
+    private ITerm term( @Nonnull final Object p_value )
+    {
+        final Optional<IFormatter> l_formatter = m_formatter.formatter( p_value.getClass() );
+        if ( l_formatter.isPresent() )
+            return this.deduplicate( l_formatter.get().apply( p_value ) );
+
+        if ( p_value instanceof Boolean )
+            return (Boolean) p_value ? TRUE : FALSE;
+
+        if ( p_value instanceof Integer || p_value instanceof Long || p_value instanceof Short || p_value instanceof Byte )
+        {
+            final long l_index = ( (Number) p_value ).longValue() - CACHELOW;
+            if ( l_index >= 0 && l_index < CACHE.length )
+                return CACHE[(int) l_index];
+        }
+
+        return this.deduplicate( CDoubleVector.string( p_value ) );
+    }
+
+    /**
+     * returns the term of a string, which is read from
+     * the deduplication table if the table exists
+     *
+     * @param p_string string
+     * @return string term
+     */
+    @Nonnull
+    private ITerm deduplicate( @Nonnull final String p_string )
+    {
+        if ( m_size == 0 || p_string.length() > DEDUPLENGTH )
+            return CRawTerm.of( p_string );
+
+        final int l_hash = p_string.hashCode();
+        final int l_slot = ( l_hash ^ ( l_hash >>> 16 ) ) & ( m_size - 1 );
+
+        final ITerm l_entry = m_table.get( l_slot );
+        if ( l_entry != null && p_string.equals( l_entry.raw() ) )
+            return l_entry;
+
+        final ITerm l_term = CRawTerm.of( p_string );
+        m_table.lazySet( l_slot, l_term );
+        return l_term;
+    }
+
 }
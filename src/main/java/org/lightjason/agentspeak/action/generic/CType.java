@@ -23,7 +23,6 @@
 
 package org.lightjason.agentspeak.action.generic;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -32,6 +31,7 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -39,11 +39,12 @@ import java.util.stream.Stream;
 /**
  * returns for each argument the underlying type.
  * The actions returns for each argument the data type
- * as a string name
+ * as a string name, large argument lists can be
+ * returned as lazy list
  *
  * {@code [T1|T2] = .generic/type( A, B );}
  */
-public final class CType extends IBaseAction
+public final class CType extends IBaseGenericAction
 {
     /**
      * serial id
@@ -53,6 +54,10 @@ public final class CType extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CType.class, "generic" );
+    /**
+     * instance
+     */
+    public static final CType INSTANCE = new CType();
 
     @Nonnull
     @Override
@@ -61,6 +66,16 @@ public final class CType extends IBaseAction
         return NAME;
     }
 
+    /**
+     * resolves the deserialized action to the instance
+     *
+     * @return instance
+     */
+    private Object readResolve()
+    {
+        return INSTANCE;
+    }
+
     @Nonnegative
     @Override
     public int minimalArgumentNumber()
@@ -70,11 +85,27 @@ public final class CType extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        p_argument.stream().map( ITerm::raw ).map( i -> i.getClass().getCanonicalName() ).map( CRawTerm::of ).forEach( p_return::add );
+        if ( CLazyList.lazy( p_argument.size() ) )
+            p_return.add( CLazyList.of( new ArrayList<>( p_argument ), CType::type ) );
+        else
+            p_argument.stream().map( CType::type ).forEach( p_return::add );
+
         return Stream.empty();
     }
+
+    /**
+     * returns the type name of a term
+     *
+     * @param p_value term
+     * @return term with type name
+     */
+    @Nonnull
+    private static ITerm type( @Nonnull final ITerm p_value )
+    {
+        return CRawTerm.of( p_value.raw().getClass().getCanonicalName() );
+    }
 }
@@ -24,7 +24,6 @@
 
 package org.lightjason.agentspeak.action.generic;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -32,20 +31,32 @@ import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 
 /**
  * create an uuid.
- * The action creates a random uuid value
+ * The action creates a random uuid value, the generator
+ * can be set on the constructor, default is the secure
+ * random generator of the Java runtime, the time-ordered
+ * generator creates uuids which are sortable by creation time,
+ * an optional argument defines the number of uuids, the
+ * action fails if the number is not a positive number, on the
+ * compact mode the uuid is returned as uuid object with two
+ * long values instead of a string, it is converted to a
+ * string on printing or string casting
  *
- * {@code U1 = .generic/uuid(); }
+ * {@code U1 = .generic/uuid(); [U2|U3|U4] = .generic/uuid( 3 );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Universally_unique_identifier"></a>
  */
-public final class CUuid extends IBaseAction
+public final class CUuid extends IBaseGenericAction
 {
 
     /**
@@ -56,6 +67,64 @@ public final class CUuid extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CUuid.class, "generic" );
+    /**
+     * error message of an invalid count
+     */
+    private static final Supplier<String> COUNT = CException.message( CUuid.class, "count" );
+    /**
+     * hex digits
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    /**
+     * secure random generator for bulk creation
+     */
+    private static final SecureRandom RANDOM = new SecureRandom();
+    /**
+     * thread-local character buffer of the string representation
+     */
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial( () -> new char[36] );
+    /**
+     * thread-local clock state with last timestamp and counter
+     */
+    private static final ThreadLocal<long[]> CLOCK = ThreadLocal.withInitial( () -> new long[2] );
+    /**
+     * uuid generator
+     */
+    private final EGenerator m_generator;
+    /**
+     * returns uuid objects instead of strings
+     */
+    private final boolean m_compact;
+
+    /**
+     * ctor
+     */
+    public CUuid()
+    {
+        this( EGenerator.SECURE );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_generator uuid generator
+     */
+    public CUuid( @Nonnull final EGenerator p_generator )
+    {
+        this( p_generator, false );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_generator uuid generator
+     * @param p_compact returns uuid objects instead of strings
+     */
+    public CUuid( @Nonnull final EGenerator p_generator, final boolean p_compact )
+    {
+        m_generator = p_generator;
+        m_compact = p_compact;
+    }
 
     @Nonnull
     @Override
@@ -66,16 +135,260 @@ public final class CUuid extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context, @Nonnull final List<ITerm> p_argument,
-                                           @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context, @Nonnull final List<ITerm> p_argument,
+                                          @Nonnull final List<ITerm> p_return
     )
     {
-        p_return.add(
-            CRawTerm.of(
-                UUID.randomUUID().toString()
-            )
-        );
+        final int l_count = count( p_context, p_argument );
+        if ( l_count == 1 )
+        {
+            p_return.add(
+                CRawTerm.of(
+                    m_compact ? m_generator.get() : m_generator.string()
+                )
+            );
+            return Stream.empty();
+        }
+
+        final long[] l_bits = new long[2 * l_count];
+        m_generator.bits( l_bits );
+        for ( int i = 0; i < l_bits.length; i += 2 )
+            p_return.add( CRawTerm.of( m_compact ? new UUID( l_bits[i], l_bits[i + 1] ) : hex( l_bits[i], l_bits[i + 1] ) ) );
 
         return Stream.empty();
     }
+
+    /**
+     * returns the number of uuids
+     *
+     * @param p_context execution context
+     * @param p_argument arguments
+     * @return number of uuids
+     */
+    private static int count( @Nonnull final IContext p_context, @Nonnull final List<ITerm> p_argument )
+    {
+        if ( p_argument.isEmpty() )
+            return 1;
+
+        final Object l_value = p_argument.get( 0 ).raw();
+        if ( !( l_value instanceof Number ) || ( (Number) l_value ).longValue() < 1 || ( (Number) l_value ).longValue() > Integer.MAX_VALUE / 2 )
+            throw CException.illegalargument( p_context, COUNT, l_value );
+
+        return ( (Number) l_value ).intValue();
+    }
+
+    /**
+     * creates the string representation of an uuid
+     *
+     * @param p_msb most significant bits
+     * @param p_lsb least significant bits
+     * @return uuid string
+     */
+    @Nonnull
+    private static String hex( final long p_msb, final long p_lsb )
+    {
+        final char[] l_buffer = BUFFER.get();
+
+        digits( p_msb >>> 32, l_buffer, 0, 8 );
+        l_buffer[8] = '-';
+        digits( p_msb >>> 16, l_buffer, 9, 4 );
+        l_buffer[13] = '-';
+        digits( p_msb, l_buffer, 14, 4 );
+        l_buffer[18] = '-';
+        digits( p_lsb >>> 48, l_buffer, 19, 4 );
+        l_buffer[23] = '-';
+        digits( p_lsb, l_buffer, 24, 12 );
+
+        return new String( l_buffer );
+    }
+
+    /**
+     * returns the most significant bits of a time-ordered uuid (version 7),
+     * the 12 bit random field is used as counter, so that
+     * uuids are strictly increasing within a thread
+     *
+     * @return most significant bits
+     * @see <a href="https://www.rfc-editor.org/rfc/rfc9562#section-6.2">RFC 9562 monotonicity and counters</a>
+     */
+    private static long timeordered()
+    {
+        final long[] l_clock = CLOCK.get();
+        final long l_now = System.currentTimeMillis();
+
+        if ( l_now > l_clock[0] )
+        {
+            // new millisecond, the counter is seeded in the lower half to keep space for increments
+            l_clock[0] = l_now;
+            l_clock[1] = ThreadLocalRandom.current().nextInt( 0x800 );
+        }
+        else if ( ++l_clock[1] > 0xFFF )
+        {
+            // counter overflow or clock regression, the timestamp runs ahead of the clock
+            l_clock[0]++;
+            l_clock[1] = 0;
+        }
+
+        return l_clock[0] << 16 | 0x7000L | l_clock[1];
+    }
+
+    /**
+     * writes the lower hex digits of a value into the buffer
+     *
+     * @param p_value value
+     * @param p_buffer character buffer
+     * @param p_offset start index within the buffer
+     * @param p_digits number of digits
+     */
+    private static void digits( final long p_value, @Nonnull final char[] p_buffer, final int p_offset, final int p_digits )
+    {
+        long l_value = p_value;
+        for ( int i = p_offset + p_digits - 1; i >= p_offset; i-- )
+        {
+            p_buffer[i] = HEX[(int) ( l_value & 0xF )];
+            l_value >>>= 4;
+        }
+    }
+
+
+    /**
+     * uuid generator
+     */
+    public enum EGenerator implements Supplier<UUID>
+    {
+        /**
+         * secure random generator of the runtime, all
+         * threads share one random source
+         */
+        SECURE
+        {
+            @Override
+            public UUID get()
+            {
+                return UUID.randomUUID();
+            }
+
+            @Nonnull
+            @Override
+            public String string()
+            {
+                return UUID.randomUUID().toString();
+            }
+
+            @Override
+            protected void bits( @Nonnull final long[] p_bits )
+            {
+                final byte[] l_bytes = new byte[8 * p_bits.length];
+                RANDOM.nextBytes( l_bytes );
+                ByteBuffer.wrap( l_bytes ).asLongBuffer().get( p_bits );
+
+                for ( int i = 0; i < p_bits.length; i += 2 )
+                {
+                    p_bits[i] = version( p_bits[i], 4 );
+                    p_bits[i + 1] = variant( p_bits[i + 1] );
+                }
+            }
+        },
+        /**
+         * non-cryptographic random generator, each thread
+         * uses its own random stream without contention
+         */
+        FAST
+        {
+            @Override
+            public UUID get()
+            {
+                final ThreadLocalRandom l_random = ThreadLocalRandom.current();
+                return new UUID( version( l_random.nextLong(), 4 ), variant( l_random.nextLong() ) );
+            }
+
+            @Nonnull
+            @Override
+            public String string()
+            {
+                final ThreadLocalRandom l_random = ThreadLocalRandom.current();
+                return hex( version( l_random.nextLong(), 4 ), variant( l_random.nextLong() ) );
+            }
+
+            @Override
+            protected void bits( @Nonnull final long[] p_bits )
+            {
+                final ThreadLocalRandom l_random = ThreadLocalRandom.current();
+                for ( int i = 0; i < p_bits.length; i += 2 )
+                {
+                    p_bits[i] = version( l_random.nextLong(), 4 );
+                    p_bits[i + 1] = variant( l_random.nextLong() );
+                }
+            }
+        },
+        /**
+         * time-ordered generator (version 7) with millisecond
+         * timestamp and a monotonic counter for each thread
+         */
+        TIMEORDERED
+        {
+            @Override
+            public UUID get()
+            {
+                return new UUID( timeordered(), variant( ThreadLocalRandom.current().nextLong() ) );
+            }
+
+            @Nonnull
+            @Override
+            public String string()
+            {
+                return hex( timeordered(), variant( ThreadLocalRandom.current().nextLong() ) );
+            }
+
+            @Override
+            protected void bits( @Nonnull final long[] p_bits )
+            {
+                final ThreadLocalRandom l_random = ThreadLocalRandom.current();
+                for ( int i = 0; i < p_bits.length; i += 2 )
+                {
+                    p_bits[i] = timeordered();
+                    p_bits[i + 1] = variant( l_random.nextLong() );
+                }
+            }
+        };
+
+        /**
+         * returns a new uuid as string
+         *
+         * @return uuid string
+         */
+        @Nonnull
+        public abstract String string();
+
+        /**
+         * fills the array with the bits of multiple uuids,
+         * each uuid uses two consecutive elements with the
+         * most and least significant bits
+         *
+         * @param p_bits bit array with even length
+         */
+        protected abstract void bits( @Nonnull final long[] p_bits );
+
+        /**
+         * sets the version bits
+         *
+         * @param p_msb most significant bits
+         * @param p_version version
+         * @return most significant bits with version
+         */
+        private static long version( final long p_msb, final int p_version )
+        {
+            return p_msb & 0xFFFFFFFFFFFF0FFFL | (long) p_version << 12;
+        }
+
+        /**
+         * sets the IETF variant bits
+         *
+         * @param p_lsb least significant bits
+         * @return least significant bits with variant
+         */
+        private static long variant( final long p_lsb )
+        {
+            return p_lsb & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        }
+    }
 }
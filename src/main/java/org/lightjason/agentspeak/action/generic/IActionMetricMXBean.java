@@ -0,0 +1,115 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+
+/**
+ * management interface of an action metric.
+ * The interface defines the attributes and operations which
+ * are visible via JMX, the naming follows the MXBean convention
+ */
+public interface IActionMetricMXBean
+{
+    /**
+     * returns the action name
+     *
+     * @return name
+     */
+    String getName();
+
+    /**
+     * returns the number of invocations
+     *
+     * @return invocations
+     */
+    long getInvocations();
+
+    /**
+     * returns the number of failed invocations
+     *
+     * @return errors
+     */
+    long getErrors();
+
+    /**
+     * returns the mean latency in nanoseconds
+     *
+     * @return mean latency
+     */
+    double getLatencyMean();
+
+    /**
+     * returns the median latency in nanoseconds
+     *
+     * @return latency
+     */
+    long getLatency50();
+
+    /**
+     * returns the 90th percentile of the latency in nanoseconds
+     *
+     * @return latency
+     */
+    long getLatency90();
+
+    /**
+     * returns the 99th percentile of the latency in nanoseconds
+     *
+     * @return latency
+     */
+    long getLatency99();
+
+    /**
+     * returns the maximum latency in nanoseconds
+     *
+     * @return latency
+     */
+    long getLatencyMax();
+
+    /**
+     * returns the mean number of arguments
+     *
+     * @return mean argument number
+     */
+    double getArgumentMean();
+
+    /**
+     * returns the 99th percentile of the argument number
+     *
+     * @return argument number
+     */
+    long getArgument99();
+
+    /**
+     * returns the maximum number of arguments
+     *
+     * @return argument number
+     */
+    long getArgumentMax();
+
+    /**
+     * resets the metric
+     */
+    void reset();
+}
@@ -0,0 +1,124 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+
+/**
+ * base class of the generic actions.
+ * The class wraps the execution of the action and
+ * records the metrics of each call if the metrics are enabled
+ * and creates a flight recorder event if the event is enabled,
+ * both states are merged into one flag, so a call without
+ * instrumentation checks only this flag
+ */
+public abstract class IBaseGenericAction extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3040372938398924937L;
+    /**
+     * instrumentation flag, set if the metrics are enabled or a recording is running
+     */
+    private static final AtomicBoolean INSTRUMENTED = new AtomicBoolean( CMetrics.enabled() || CActionEvent.active() );
+
+    @Nonnull
+    @Override
+    public final Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                 @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        if ( !INSTRUMENTED.get() )
+            return this.run( p_parallel, p_context, p_argument, p_return );
+
+        final CActionEvent l_event = new CActionEvent();
+        l_event.begin();
+        final long l_start = System.nanoTime();
+        try
+        {
+            final Stream<IFuzzyValue<?>> l_result = this.run( p_parallel, p_context, p_argument, p_return );
+            this.record( l_event, l_start, p_context, p_argument.size(), false );
+            return l_result;
+        }
+        catch ( final RuntimeException l_exception )
+        {
+            this.record( l_event, l_start, p_context, p_argument.size(), true );
+            throw l_exception;
+        }
+    }
+
+    /**
+     * updates the instrumentation flag, it must be
+     * called on each change of the metrics or recording state
+     */
+    static synchronized void instrumentation()
+    {
+        INSTRUMENTED.set( CMetrics.enabled() || CActionEvent.active() );
+    }
+
+    /**
+     * records metric and event of an invocation
+     *
+     * @param p_event event
+     * @param p_start start time in nanoseconds
+     * @param p_context execution context
+     * @param p_arguments number of arguments
+     * @param p_error invocation throws an exception
+     */
+    private void record( @Nonnull final CActionEvent p_event, final long p_start, @Nonnull final IContext p_context,
+                         @Nonnegative final int p_arguments, final boolean p_error )
+    {
+        if ( CMetrics.enabled() )
+            CMetrics.metric( this ).record( System.nanoTime() - p_start, p_arguments, p_error );
+
+        p_event.end();
+        if ( p_event.shouldCommit() )
+            p_event.commit( this.name().toString(), Integer.toHexString( System.identityHashCode( p_context.agent() ) ), p_arguments, p_error );
+    }
+
+    /**
+     * runs the action
+     *
+     * @param p_parallel parallel execution
+     * @param p_context execution context
+     * @param p_argument arguments
+     * @param p_return return values
+     * @return fuzzy result
+     */
+    @Nonnull
+    protected abstract Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                   @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    );
+}
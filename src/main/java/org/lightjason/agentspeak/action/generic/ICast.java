@@ -23,28 +23,47 @@
 
 package org.lightjason.agentspeak.action.generic;
 
-import org.lightjason.agentspeak.action.IBaseAction;
-import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
 /**
- * abstract class to cast / translate a value
+ * abstract class to cast / translate a value.
+ * On parallel execution and an argument number above the
+ * threshold (configuration key action.generic.cast.parallel),
+ * the arguments are casted in chunks into local buffers, which
+ * are appended in order, the first failing cast stops all chunks,
+ * large argument lists can be returned as lazy list
  */
-public abstract class ICast extends IBaseAction
+public abstract class ICast extends IBaseGenericAction
 {
     /**
      * serial id
      */
     private static final long serialVersionUID = 5568282370454217665L;
+    /**
+     * error message
+     */
+    private static final Supplier<String> CANNOTCAST = CException.message( ICast.class, "cannotcast" );
+    /**
+     * minimal argument number of parallel casting
+     */
+    private static final int PARALLELTHRESHOLD = (int) Math.max( 1, CConfiguration.get( "cast.parallel", 4096L ) );
+    /**
+     * number of chunks per processor
+     */
+    private static final int CHUNKSPERPROCESSOR = 4;
 
     @Nonnegative
     @Override
@@ -55,19 +74,98 @@ public abstract class ICast extends IBaseAction
 
     @Nonnull
     @Override
-    public final Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                                 @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected final Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        if ( !CCommon.flatten( p_argument ).allMatch( i -> this.cast( i, p_return ) ) )
-            throw new CExecutionIllegealArgumentException(
-                p_context,
-                org.lightjason.agentspeak.common.CCommon.languagestring( ICast.class, "cannotcast" )
-            );
+        if ( !this.castall( p_parallel, p_context, CDoubleVector.flatten( p_argument ), p_return ) )
+            throw CException.illegalargument( p_context, CANNOTCAST );
 
         return Stream.empty();
     }
 
+    /**
+     * casts all arguments
+     *
+     * @param p_parallel parallel execution
+     * @param p_context execution context
+     * @param p_argument flatten arguments
+     * @param p_return return arguments
+     * @return successful boolean
+     */
+    protected boolean castall( final boolean p_parallel, @Nonnull final IContext p_context, @Nonnull final Stream<ITerm> p_argument,
+                               @Nonnull final List<ITerm> p_return )
+    {
+        if ( !p_parallel && !CLazyList.enabled() )
+            return p_argument.allMatch( i -> this.cast( i, p_return ) );
+
+        final List<ITerm> l_arguments = p_argument.collect( Collectors.toList() );
+        if ( CLazyList.lazy( l_arguments.size() ) )
+        {
+            p_return.add( CLazyList.of( l_arguments, i -> this.single( p_context, i ) ) );
+            return true;
+        }
+
+        return p_parallel
+               ? this.parallel( l_arguments, p_return )
+               : l_arguments.stream().allMatch( i -> this.cast( i, p_return ) );
+    }
+
+    /**
+     * casts a single value for lazy lists
+     *
+     * @param p_context execution context
+     * @param p_value term value
+     * @return casted term
+     */
+    @Nonnull
+    private ITerm single( @Nonnull final IContext p_context, @Nonnull final ITerm p_value )
+    {
+        final List<ITerm> l_return = new ArrayList<>( 1 );
+        if ( !this.cast( p_value, l_return ) || l_return.size() != 1 )
+            throw CException.illegalargument( p_context, CANNOTCAST );
+
+        return l_return.get( 0 );
+    }
+
+    /**
+     * casts the arguments in parallel chunks
+     *
+     * @param p_argument flatten arguments
+     * @param p_return return arguments
+     * @return successful boolean
+     */
+    private boolean parallel( @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    {
+        if ( p_argument.size() < PARALLELTHRESHOLD )
+            return p_argument.stream().allMatch( i -> this.cast( i, p_return ) );
+
+        final int l_chunk = Math.max(
+            PARALLELTHRESHOLD / CHUNKSPERPROCESSOR,
+            p_argument.size() / ( Runtime.getRuntime().availableProcessors() * CHUNKSPERPROCESSOR ) + 1
+        );
+        final AtomicBoolean l_failed = new AtomicBoolean();
+
+        final List<List<ITerm>> l_buffers = IntStream.range( 0, ( p_argument.size() + l_chunk - 1 ) / l_chunk )
+                                                     .parallel()
+                                                     .mapToObj( i ->
+                                                     {
+                                                         final List<ITerm> l_buffer = new ArrayList<>( l_chunk );
+                                                         final int l_end = Math.min( p_argument.size(), ( i + 1 ) * l_chunk );
+                                                         for ( int j = i * l_chunk; j < l_end && !l_failed.get(); j++ )
+                                                             if ( !this.cast( p_argument.get( j ), l_buffer ) )
+                                                                 l_failed.set( true );
+                                                         return l_buffer;
+                                                     } )
+                                                     .collect( Collectors.toList() );
+
+        if ( l_failed.get() )
+            return false;
+
+        l_buffers.forEach( p_return::addAll );
+        return true;
+    }
+
 
     /**
      * cast / translates value
@@ -23,9 +23,6 @@
 
 package org.lightjason.agentspeak.action.generic;
 
-import org.lightjason.agentspeak.action.IBaseAction;
-import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -34,18 +31,25 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
- * abstract class to define parsing actions
+ * abstract class to define parsing actions,
+ * large argument lists can be returned as lazy list
  */
-public abstract class IParse extends IBaseAction
+public abstract class IParse extends IBaseGenericAction
 {
     /**
      * serial id
      */
     private static final long serialVersionUID = 6011660734586672310L;
+    /**
+     * error message
+     */
+    private static final Supplier<String> PARSEERROR = CException.message( IParse.class, "parseerror" );
 
     @Nonnegative
     @Override
@@ -56,22 +60,70 @@ public abstract class IParse extends IBaseAction
 
     @Nonnull
     @Override
-    public final Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                                 @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    protected final Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
     {
-        if ( !CCommon.flatten( p_argument )
-                     .map( ITerm::<String>raw )
-                     .map( this::parse )
-                     .peek( i -> p_return.add( i.getValue() ) )
-                     .allMatch( Map.Entry::getKey ) )
-            throw new CExecutionIllegealArgumentException(
-                p_context,
-                org.lightjason.agentspeak.common.CCommon.languagestring( IParse.class, "parseerror" )
-            );
+        if ( !this.parseall( p_context, CDoubleVector.flatten( p_argument ), p_return ) )
+            throw CException.illegalargument( p_context, PARSEERROR );
 
         return Stream.empty();
     }
 
+    /**
+     * parses all arguments
+     *
+     * @param p_context execution context
+     * @param p_argument flatten arguments
+     * @param p_return return arguments
+     * @return successful boolean
+     */
+    protected boolean parseall( @Nonnull final IContext p_context, @Nonnull final Stream<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    {
+        if ( CLazyList.enabled() )
+        {
+            final List<ITerm> l_arguments = p_argument.collect( Collectors.toList() );
+            if ( CLazyList.lazy( l_arguments.size() ) )
+            {
+                p_return.add( CLazyList.of( l_arguments, i -> this.single( p_context, i ) ) );
+                return true;
+            }
+            return this.eager( l_arguments.stream(), p_return );
+        }
+
+        return this.eager( p_argument, p_return );
+    }
+
+    /**
+     * parses all arguments eagerly
+     *
+     * @param p_argument flatten arguments
+     * @param p_return return arguments
+     * @return successful boolean
+     */
+    private boolean eager( @Nonnull final Stream<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    {
+        return p_argument.map( ITerm::<String>raw )
+                         .map( this::parse )
+                         .peek( i -> p_return.add( i.getValue() ) )
+                         .allMatch( Map.Entry::getKey );
+    }
+
+    /**
+     * parses a single value for lazy lists
+     *
+     * @param p_context execution context
+     * @param p_value term value
+     * @return parsed term
+     */
+    @Nonnull
+    private ITerm single( @Nonnull final IContext p_context, @Nonnull final ITerm p_value )
+    {
+        final Map.Entry<Boolean, ITerm> l_result = this.parse( p_value.raw() );
+        if ( !l_result.getKey() )
+            throw CException.illegalargument( p_context, PARSEERROR );
+
+        return l_result.getValue();
+    }
 
     /**
      * parses the input string
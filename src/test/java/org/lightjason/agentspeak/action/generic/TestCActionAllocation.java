@@ -0,0 +1,274 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * allocation test of the generic actions.
+ * Each action is executed after a warm-up and the allocated
+ * bytes of the executing thread for each call are compared with
+ * the allocation budget, which is defined for each action, actions
+ * with a variable number of arguments are checked additionally by
+ * the allocated bytes for each argument, so the fixed costs of the
+ * call are not part of the budget
+ */
+public final class TestCActionAllocation extends IBaseTest
+{
+    /**
+     * number of warm-up calls
+     */
+    private static final int WARMUP = 20000;
+    /**
+     * number of measured calls
+     */
+    private static final int ITERATIONS = 2000;
+    /**
+     * number of arguments of the element test
+     */
+    private static final int ELEMENTS = 1000;
+    /**
+     * number of measured calls of the element test
+     */
+    private static final int ELEMENTITERATIONS = 100;
+
+    /**
+     * relative margin of the per-call budget in percent
+     */
+    private static final int MARGIN = 50;
+    /**
+     * fixed margin of the per-call budget in bytes
+     */
+    private static final int MARGINBYTES = 64;
+
+    /**
+     * test data with action, arguments and expected allocation in bytes per call,
+     * the expected values are the summed object sizes of a call with compressed
+     * oops (stream pipeline of the return ~100, flatten pipeline ~300, raw term 32,
+     * boxed value 16-24, string 24 + content), the budget is the expected value
+     * with a margin of 50 percent and 64 bytes
+     *
+     * @return test data
+     * @throws Exception is thrown on action creation error
+     */
+    private static Stream<Arguments> generate() throws Exception
+    {
+        return Stream.of(
+            // string 80, raw term 32, stream 100
+            Arguments.of( new CUuid( CUuid.EGenerator.FAST ), arguments(), 212 ),
+            // uuid 24, raw term 32, stream 100
+            Arguments.of( new CUuid( CUuid.EGenerator.FAST, true ), arguments(), 156 ),
+            // string 80, raw term 32, stream 100
+            Arguments.of( new CUuid( CUuid.EGenerator.TIMEORDERED ), arguments(), 212 ),
+            // long 24, raw term 32, stream 100
+            Arguments.of( new CSnowflake( 1, 0 ), arguments(), 156 ),
+            // stream 100
+            Arguments.of( new CThrow(), arguments( false ), 100 ),
+            // literal with value multimap 1000, sublist 32, value pipeline 168
+            Arguments.of( new CCreateLiteral(), arguments( "status", "ok" ), 1200 ),
+            // two literals 2400, tuple pipeline 600
+            Arguments.of( new CCreateLiterals(), arguments( "position", List.of( 3, 4 ), List.of( 5, 6 ) ), 3000 ),
+            // flatten 300, three times parse buffer 112, double 16, raw term 32, entry 24, map pipeline 200
+            Arguments.of( new CParseNumber(), arguments( "732.489", "64.091248", "-78129.01" ), 1052 ),
+            // flatten 300, cached and unchanged numbers, match pipeline 150
+            Arguments.of( new CToNumber(), arguments( 1, 2, 3.2 ), 450 ),
+            // flatten 300, raw term 32, cached number, double string 100 and raw term 32, stream 100
+            Arguments.of( new CToString(), arguments( "", 123, 5.5 ), 564 ),
+            // lazy list 48, argument copy 56, stream 150
+            Arguments.of( new CType(), arguments( 123L, "test value" ), 254 ),
+            // lexer, parser, token stream and context objects
+            Arguments.of( new CParseLiteral(), arguments( "main/parsefunctor( \"hello\", 666, false )" ), 10000 ),
+            // format with joining 600, encoding of the line 300, stream 100
+            Arguments.of( new CPrint( () -> new PrintStream( OutputStream.nullOutputStream() ), "-" ), arguments( "foobar", 1234, true ), 1000 )
+        );
+    }
+
+    /**
+     * test data with action, argument generator and allocation budget in bytes per argument
+     *
+     * @return test data
+     */
+    private static Stream<Arguments> generateelement()
+    {
+        return Stream.of(
+            Arguments.of( new CIs(), (IntFunction<List<ITerm>>) i -> arguments( i ), 64 ),
+            Arguments.of( new CIsNull(), (IntFunction<List<ITerm>>) i -> arguments( (Object) null ), 64 ),
+            Arguments.of( new CIsNumeric(), (IntFunction<List<ITerm>>) i -> arguments( i ), 64 ),
+            Arguments.of( new CIsString(), (IntFunction<List<ITerm>>) i -> arguments( "value" ), 64 ),
+            Arguments.of( new CFuzzyReturn(), (IntFunction<List<ITerm>>) i -> arguments( "true", 0.5 ), 128 ),
+            Arguments.of( new CToNumber(), (IntFunction<List<ITerm>>) i -> arguments( i ), 128 ),
+            Arguments.of( new CToString(), (IntFunction<List<ITerm>>) i -> arguments( i ), 192 ),
+            Arguments.of( new CParseNumber(), (IntFunction<List<ITerm>>) i -> arguments( "732.489" ), 256 ),
+            Arguments.of( new CType(), (IntFunction<List<ITerm>>) i -> arguments( i ), 128 ),
+            Arguments.of( new CCreateLiterals(), (IntFunction<List<ITerm>>) i -> arguments( List.of( i, i + 1 ) ), 1024 )
+        );
+    }
+
+    /**
+     * test allocation budget
+     *
+     * @param p_action action
+     * @param p_argument arguments
+     * @param p_expected expected allocation in bytes per call
+     */
+    @ParameterizedTest
+    @MethodSource( "generate" )
+    public void allocation( final IExecution p_action, final List<ITerm> p_argument, final int p_expected )
+    {
+        final long l_budget = p_expected + p_expected * MARGIN / 100 + MARGINBYTES;
+        final com.sun.management.ThreadMXBean l_bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue( l_bean.isThreadAllocatedMemorySupported() && l_bean.isThreadAllocatedMemoryEnabled() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        for ( int i = 0; i < WARMUP; i++ )
+        {
+            p_action.execute( false, IContext.EMPTYPLAN, p_argument, l_return );
+            l_return.clear();
+        }
+
+        final long l_thread = Thread.currentThread().getId();
+        final long l_start = l_bean.getThreadAllocatedBytes( l_thread );
+        for ( int i = 0; i < ITERATIONS; i++ )
+        {
+            p_action.execute( false, IContext.EMPTYPLAN, p_argument, l_return );
+            l_return.clear();
+        }
+        final long l_bytes = ( l_bean.getThreadAllocatedBytes( l_thread ) - l_start ) / ITERATIONS;
+
+        Assertions.assertTrue(
+            l_bytes <= l_budget,
+            () -> MessageFormat.format(
+                "action [{0}] allocates [{1}] bytes per call, expected are [{2}] bytes, budget is [{3}] bytes",
+                p_action, l_bytes, p_expected, l_budget
+            )
+        );
+    }
+
+    /**
+     * test allocation budget of each argument, the allocation
+     * of a call with one argument element is subtracted
+     * from the allocation of a call with many elements
+     *
+     * @param p_action action
+     * @param p_element argument generator of an element
+     * @param p_budget allocation budget in bytes per element
+     */
+    @ParameterizedTest
+    @MethodSource( "generateelement" )
+    public void allocationelement( final IExecution p_action, final IntFunction<List<ITerm>> p_element, final int p_budget )
+    {
+        final com.sun.management.ThreadMXBean l_bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue( l_bean.isThreadAllocatedMemorySupported() && l_bean.isThreadAllocatedMemoryEnabled() );
+
+        final List<ITerm> l_single = elements( p_action, p_element, 1 );
+        final List<ITerm> l_many = elements( p_action, p_element, ELEMENTS );
+
+        final long l_bytes = ( this.allocated( l_bean, p_action, l_many ) - this.allocated( l_bean, p_action, l_single ) ) / ( ELEMENTS - 1 );
+
+        Assertions.assertTrue(
+            l_bytes <= p_budget,
+            () -> MessageFormat.format( "action [{0}] allocates [{1}] bytes per argument, budget is [{2}] bytes", p_action, l_bytes, p_budget )
+        );
+    }
+
+    /**
+     * returns the allocated bytes of a call after a warm-up
+     *
+     * @param p_bean thread bean
+     * @param p_action action
+     * @param p_argument arguments
+     * @return allocated bytes per call
+     */
+    private long allocated( final com.sun.management.ThreadMXBean p_bean, final IExecution p_action, final List<ITerm> p_argument )
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        for ( int i = 0; i < ELEMENTITERATIONS; i++ )
+        {
+            execute( p_action, false, p_argument, l_return );
+            l_return.clear();
+        }
+
+        final long l_thread = Thread.currentThread().getId();
+        final long l_start = p_bean.getThreadAllocatedBytes( l_thread );
+        for ( int i = 0; i < ELEMENTITERATIONS; i++ )
+        {
+            execute( p_action, false, p_argument, l_return );
+            l_return.clear();
+        }
+        return ( p_bean.getThreadAllocatedBytes( l_thread ) - l_start ) / ELEMENTITERATIONS;
+    }
+
+    /**
+     * creates the argument list of the element test, the
+     * type name and functor arguments are set once in front
+     *
+     * @param p_action action
+     * @param p_element argument generator of an element
+     * @param p_number number of elements
+     * @return argument list
+     */
+    private static List<ITerm> elements( final IExecution p_action, final IntFunction<List<ITerm>> p_element, final int p_number )
+    {
+        final List<ITerm> l_prefix = p_action instanceof CIs
+                                     ? arguments( "java.lang.Number" )
+                                     : p_action instanceof CCreateLiterals ? arguments( "position" ) : List.of();
+
+        return Stream.concat(
+            l_prefix.stream(),
+            IntStream.range( 0, p_number ).mapToObj( p_element ).flatMap( List::stream )
+        ).collect( Collectors.toList() );
+    }
+
+    /**
+     * creates the argument list
+     *
+     * @param p_values values
+     * @return argument list
+     */
+    private static List<ITerm> arguments( final Object... p_values )
+    {
+        return Stream.of( p_values ).map( CRawTerm::of ).collect( Collectors.toList() );
+    }
+}
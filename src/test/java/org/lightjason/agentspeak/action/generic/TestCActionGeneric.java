@@ -23,8 +23,13 @@
 
 package org.lightjason.agentspeak.action.generic;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionException;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CLiteral;
@@ -35,14 +40,30 @@ import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
+import javax.management.ObjectName;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -86,6 +107,157 @@ public final class TestCActionGeneric extends IBaseTest
     }
 
 
+    /**
+     * test throw action without stack trace
+     */
+    @Test
+    public void throwstackless()
+    {
+        final boolean l_stacktrace = CException.stacktrace();
+        CException.stacktrace( false );
+        try
+        {
+            final CExecutionException l_exception = Assertions.assertThrows(
+                CExecutionException.class,
+                () -> new CThrow().execute(
+                    false, IContext.EMPTYPLAN,
+                    Stream.of( true, "test message" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                    Collections.emptyList()
+                )
+            );
+
+            Assertions.assertEquals( 0, l_exception.getStackTrace().length );
+        }
+        finally
+        {
+            CException.stacktrace( l_stacktrace );
+        }
+    }
+
+
+    /**
+     * test cached error message
+     */
+    @Test
+    public void errormessage()
+    {
+        final Supplier<String> l_message = CException.message( ICast.class, "cannotcast" );
+
+        Assertions.assertFalse( l_message.get().isEmpty() );
+        Assertions.assertSame( l_message.get(), l_message.get() );
+    }
+
+
+    /**
+     * test action metrics
+     */
+    @Test
+    @Tag( "jvm" )
+    public void metrics()
+    {
+        CMetrics.enabled( true );
+        CMetrics.metrics().forEach( CActionMetric::reset );
+        try
+        {
+            final IExecution l_throw = new CThrow();
+            l_throw.execute( false, IContext.EMPTYPLAN, Stream.of( false ).map( CRawTerm::of ).collect( Collectors.toList() ), Collections.emptyList() );
+            Assertions.assertThrows(
+                CExecutionException.class,
+                () -> l_throw.execute(
+                    false, IContext.EMPTYPLAN,
+                    Stream.of( true ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                    Collections.emptyList()
+                )
+            );
+
+            final CActionMetric l_metric = CMetrics.metrics()
+                                                   .filter( i -> i.getName().equals( new CThrow().name().toString() ) )
+                                                   .findFirst()
+                                                   .orElseThrow();
+
+            Assertions.assertEquals( 2, l_metric.getInvocations() );
+            Assertions.assertEquals( 1, l_metric.getErrors() );
+            Assertions.assertEquals( 2, l_metric.latency().count() );
+            Assertions.assertEquals( 1, l_metric.getArgumentMax() );
+            Assertions.assertTrue( l_metric.getLatency99() <= l_metric.getLatencyMax() );
+        }
+        finally
+        {
+            CMetrics.enabled( false );
+        }
+    }
+
+    /**
+     * test registration of the metrics as MBean
+     *
+     * @throws Exception is thrown on JMX errors
+     */
+    @Test
+    @Tag( "jvm" )
+    public void metricsmbean() throws Exception
+    {
+        CMetrics.enabled( true );
+        try
+        {
+            new CUuid().execute( false, IContext.EMPTYPLAN, Collections.emptyList(), new ArrayList<>() );
+
+            final CActionMetric l_metric = CMetrics.metrics()
+                                                   .filter( i -> i.getName().equals( new CUuid().name().toString() ) )
+                                                   .findFirst()
+                                                   .orElseThrow();
+
+            final ObjectName l_name = CMetrics.objectname( l_metric );
+            Assertions.assertTrue( ManagementFactory.getPlatformMBeanServer().isRegistered( l_name ) );
+            Assertions.assertEquals( l_metric.getName(), ManagementFactory.getPlatformMBeanServer().getAttribute( l_name, "Name" ) );
+        }
+        finally
+        {
+            CMetrics.enabled( false );
+        }
+    }
+
+
+    /**
+     * test flight recorder event
+     *
+     * @throws Exception is thrown on recording errors
+     */
+    @Test
+    @Tag( "jvm" )
+    public void flightrecorder() throws Exception
+    {
+        final Path l_file = Files.createTempFile( "generic", ".jfr" );
+        try ( Recording l_recording = new Recording() )
+        {
+            l_recording.enable( CActionEvent.NAME ).withThreshold( Duration.ZERO );
+            l_recording.start();
+
+            new CUuid().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                new ArrayList<>()
+            );
+
+            l_recording.stop();
+            l_recording.dump( l_file );
+
+            final List<RecordedEvent> l_events = RecordingFile.readAllEvents( l_file )
+                                                              .stream()
+                                                              .filter( i -> CActionEvent.NAME.equals( i.getEventType().getName() ) )
+                                                              .collect( Collectors.toList() );
+
+            Assertions.assertEquals( 1, l_events.size() );
+            Assertions.assertEquals( new CUuid().name().toString(), l_events.get( 0 ).getString( "action" ) );
+            Assertions.assertEquals( 1, l_events.get( 0 ).getInt( "arguments" ) );
+            Assertions.assertEquals( "success", l_events.get( 0 ).getString( "outcome" ) );
+        }
+        finally
+        {
+            Files.deleteIfExists( l_file );
+        }
+    }
+
+
     /**
      * test throw without throwing
      */
@@ -157,6 +329,174 @@ public final class TestCActionGeneric extends IBaseTest
         Assertions.assertEquals( "FOOBAR-1234-yes\n", l_output.toString( StandardCharsets.UTF_8 ) );
     }
 
+    /**
+     * test print action with multiple sinks
+     *
+     * @throws Exception is thrown on sink errors
+     */
+    @Test
+    public void printsink() throws Exception
+    {
+        final List<String> l_records = Collections.synchronizedList( new ArrayList<>() );
+        final CountDownLatch l_latch = new CountDownLatch( 2 );
+        final CountDownLatch l_block = new CountDownLatch( 1 );
+
+        try (
+            CSink l_fast = new CSink( () -> i -> { l_records.add( i ); l_latch.countDown(); }, 4, CSink.EOverflow.DROPNEWEST );
+            CSink l_slow = new CSink( () -> i ->
+            {
+                try
+                {
+                    l_block.await();
+                }
+                catch ( final InterruptedException l_exception )
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }, 1, CSink.EOverflow.DROPOLDEST )
+        )
+        {
+            try
+            {
+                final IExecution l_print = new CPrint( "-", List.of( l_fast, l_slow ), new CBooleanFormatter() );
+                IntStream.range( 0, 2 ).forEach( i -> l_print.execute(
+                    false, IContext.EMPTYPLAN,
+                    Stream.of( "foobar", i, true ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                    Collections.emptyList()
+                ) );
+
+                Assertions.assertTrue( l_latch.await( 5, TimeUnit.SECONDS ) );
+                Assertions.assertEquals( List.of( "foobar-0-yes", "foobar-1-yes" ), l_records );
+                Assertions.assertEquals( 0, l_fast.dropped() );
+                Assertions.assertTrue( l_slow.queued() <= 1 );
+            }
+            finally
+            {
+                l_block.countDown();
+            }
+        }
+    }
+
+    /**
+     * test that closing a sink writes the queued records
+     *
+     * @throws Exception is thrown on sink errors
+     */
+    @Test
+    public void sinkclose() throws Exception
+    {
+        final ByteArrayOutputStream l_output = new ByteArrayOutputStream();
+        final CSink l_sink = CSink.of( () -> new PrintStream( l_output, false, StandardCharsets.UTF_8 ), 1024, CSink.EOverflow.DROPNEWEST );
+
+        IntStream.range( 0, 100 ).forEach( i -> l_sink.accept( Integer.toString( i ) ) );
+        l_sink.close();
+
+        Assertions.assertEquals(
+            IntStream.range( 0, 100 ).mapToObj( Integer::toString ).collect( Collectors.joining( "\n", "", "\n" ) ),
+            l_output.toString( StandardCharsets.UTF_8 )
+        );
+        Assertions.assertEquals( 0, l_sink.queued() );
+        Assertions.assertEquals( 0, l_sink.errors() );
+    }
+
+    /**
+     * test lazy start and consumer errors of a sink
+     *
+     * @throws Exception is thrown on sink errors
+     */
+    @Test
+    public void sinkerror() throws Exception
+    {
+        final CountDownLatch l_latch = new CountDownLatch( 1 );
+
+        try (
+            CSink l_sink = new CSink( () -> i ->
+            {
+                if ( "error".equals( i ) )
+                    throw new IllegalStateException( i );
+                l_latch.countDown();
+            }, 4, CSink.EOverflow.DROPNEWEST )
+        )
+        {
+            Assertions.assertFalse( l_sink.started() );
+            l_sink.accept( "error" );
+            Assertions.assertTrue( l_sink.started() );
+
+            // the records are consumed in order, so the error is counted before the second record
+            l_sink.accept( "record" );
+            Assertions.assertTrue( l_latch.await( 5, TimeUnit.SECONDS ) );
+
+            Assertions.assertEquals( 1, l_sink.errors() );
+            Assertions.assertEquals( 0, l_sink.dropped() );
+        }
+
+        Assertions.assertThrows( IllegalArgumentException.class, () -> new CSink( () -> i -> { }, 0, CSink.EOverflow.DROPNEWEST ) );
+    }
+
+    /**
+     * test serialization of print and stateless actions
+     *
+     * @throws Exception is thrown on serialization errors
+     */
+    @Test
+    @Tag( "jvm" )
+    public void serialization() throws Exception
+    {
+        final CPrint l_print = new CPrint( () -> new PrintStream( OutputStream.nullOutputStream() ), "-", new CStringFormatter(), new CBooleanFormatter() );
+
+        final ByteArrayOutputStream l_output = new ByteArrayOutputStream();
+        try ( ObjectOutputStream l_stream = new ObjectOutputStream( l_output ) )
+        {
+            l_stream.writeObject( l_print );
+            l_stream.writeObject( new CIs() );
+        }
+
+        try ( ObjectInputStream l_stream = new ObjectInputStream( new ByteArrayInputStream( l_output.toByteArray() ) ) )
+        {
+            final CPrint l_deserialized = (CPrint) l_stream.readObject();
+            Assertions.assertEquals( l_print.formatter(), l_deserialized.formatter() );
+            Assertions.assertTrue(
+                execute(
+                    l_deserialized,
+                    false,
+                    Stream.of( "foobar", 1234, true ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                    Collections.emptyList()
+                )
+            );
+
+            Assertions.assertSame( CIs.INSTANCE, l_stream.readObject() );
+        }
+    }
+
+    /**
+     * test serialization of a formatter set, which is shared by print and to-string
+     *
+     * @throws Exception is thrown on serialization errors
+     */
+    @Test
+    @Tag( "jvm" )
+    public void serializationsharedformatter() throws Exception
+    {
+        final CPrint l_print = new CPrint( () -> new PrintStream( OutputStream.nullOutputStream() ), "-", new CStringFormatter() );
+        final CToString l_tostring = new CToString( l_print.formatter() );
+
+        final ByteArrayOutputStream l_output = new ByteArrayOutputStream();
+        try ( ObjectOutputStream l_stream = new ObjectOutputStream( l_output ) )
+        {
+            l_stream.writeObject( l_print );
+            l_stream.writeObject( l_tostring );
+        }
+
+        try ( ObjectInputStream l_stream = new ObjectInputStream( new ByteArrayInputStream( l_output.toByteArray() ) ) )
+        {
+            final CPrint l_deserializedprint = (CPrint) l_stream.readObject();
+            final CToString l_deserializedtostring = (CToString) l_stream.readObject();
+
+            Assertions.assertEquals( l_print.formatter(), l_deserializedprint.formatter() );
+            Assertions.assertSame( l_deserializedprint.formatter(), l_deserializedtostring.formatter() );
+        }
+    }
+
     /**
      * test single uuid
      */
@@ -176,6 +516,213 @@ public final class TestCActionGeneric extends IBaseTest
         Assertions.assertFalse( l_return.get( 0 ).<String>raw().isEmpty() );
     }
 
+    /**
+     * test fast uuid generator
+     */
+    @Test
+    public void uuidfast()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final IExecution l_uuid = new CUuid( CUuid.EGenerator.FAST );
+
+        l_uuid.execute( false, IContext.EMPTYPLAN, Collections.emptyList(), l_return );
+        l_uuid.execute( false, IContext.EMPTYPLAN, Collections.emptyList(), l_return );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertNotEquals( l_return.get( 0 ).<String>raw(), l_return.get( 1 ).<String>raw() );
+
+        final UUID l_value = UUID.fromString( l_return.get( 0 ).raw() );
+        Assertions.assertEquals( l_value.toString(), l_return.get( 0 ).<String>raw() );
+        Assertions.assertEquals( 4, l_value.version() );
+        Assertions.assertEquals( 2, l_value.variant() );
+    }
+
+    /**
+     * test time-ordered uuid generator
+     */
+    @Test
+    public void uuidtimeordered()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final IExecution l_uuid = new CUuid( CUuid.EGenerator.TIMEORDERED );
+
+        IntStream.range( 0, 10000 ).forEach( i -> l_uuid.execute( false, IContext.EMPTYPLAN, Collections.emptyList(), l_return ) );
+
+        final List<String> l_value = l_return.stream().map( ITerm::<String>raw ).collect( Collectors.toList() );
+        Assertions.assertEquals( l_value.stream().sorted().distinct().collect( Collectors.toList() ), l_value );
+        Assertions.assertTrue( l_value.stream().map( UUID::fromString ).allMatch( i -> i.version() == 7 && i.variant() == 2 ) );
+    }
+
+    /**
+     * test multiple uuids within one call
+     */
+    @Test
+    public void uuidmultiple()
+    {
+        Arrays.stream( CUuid.EGenerator.values() ).forEach( i ->
+        {
+            final List<ITerm> l_return = new ArrayList<>();
+
+            new CUuid( i ).execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( 100 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            );
+
+            Assertions.assertEquals( 100, l_return.size() );
+            Assertions.assertEquals( 100, l_return.stream().map( ITerm::<String>raw ).distinct().count() );
+            Assertions.assertTrue( l_return.stream().map( ITerm::<String>raw ).map( UUID::fromString ).allMatch( j -> j.variant() == 2 ) );
+        } );
+    }
+
+    /**
+     * test uuid with invalid count
+     */
+    @Test
+    public void uuidcounterror()
+    {
+        Stream.of( 0, -3, "foo" ).forEach( i -> Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CUuid().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( i ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                new ArrayList<>()
+            )
+        ) );
+    }
+
+    /**
+     * test compact uuid
+     *
+     * @throws Exception is thrown on encoding errors
+     */
+    @Test
+    public void uuidcompact() throws Exception
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CUuid( CUuid.EGenerator.FAST, true ).execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( UUID.class, l_return.get( 0 ).raw().getClass() );
+
+        final List<ITerm> l_string = new ArrayList<>();
+        new CToString().execute( false, IContext.EMPTYPLAN, l_return.subList( 0, 1 ), l_string );
+        Assertions.assertEquals( l_return.get( 0 ).raw().toString(), l_string.get( 0 ).raw() );
+
+        final ByteArrayOutputStream l_output = new ByteArrayOutputStream();
+        new CPrint( () -> new PrintStream( l_output, false, StandardCharsets.UTF_8 ), "" ).execute(
+            false, IContext.EMPTYPLAN, l_return.subList( 0, 1 ), Collections.emptyList()
+        );
+        Assertions.assertEquals( l_string.get( 0 ).raw() + "\n", l_output.toString( StandardCharsets.UTF_8 ) );
+    }
+
+    /**
+     * test snowflake id
+     */
+    @Test
+    public void snowflake()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CSnowflake( 5, 0 ).execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 10000 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        final List<Long> l_value = l_return.stream().map( ITerm::<Long>raw ).collect( Collectors.toList() );
+        Assertions.assertEquals( 10000, l_value.size() );
+        Assertions.assertEquals( l_value.stream().sorted().distinct().collect( Collectors.toList() ), l_value );
+        Assertions.assertTrue( l_value.stream().allMatch( i -> ( i >>> 12 & 0x3FF ) == 5 ) );
+    }
+
+    /**
+     * test snowflake ids of generators with different epochs
+     */
+    @Test
+    public void snowflakeepoch()
+    {
+        final long l_epoch = 1577836800000L;
+        final List<ITerm> l_return = new ArrayList<>();
+        final long l_start = System.currentTimeMillis();
+
+        IntStream.range( 0, 100 ).forEach( i ->
+        {
+            new CSnowflake( 1, 0 ).execute( false, IContext.EMPTYPLAN, Collections.emptyList(), l_return );
+            new CSnowflake( 2, l_epoch ).execute( false, IContext.EMPTYPLAN, Collections.emptyList(), l_return );
+        } );
+        final long l_end = System.currentTimeMillis() + 1000;
+
+        Assertions.assertTrue(
+            l_return.stream()
+                    .map( ITerm::<Long>raw )
+                    .mapToLong( i -> ( i >>> 22 ) + ( ( i >>> 12 & 0x3FF ) == 2 ? l_epoch : 0 ) )
+                    .allMatch( i -> i >= l_start && i <= l_end )
+        );
+    }
+
+    /**
+     * test snowflake id with wrong node id
+     */
+    @Test
+    public void snowflakenode()
+    {
+        Assertions.assertThrows( IllegalArgumentException.class, () -> new CSnowflake( 1024, 0 ) );
+    }
+
+    /**
+     * test snowflake id with a non-numeric count
+     */
+    @Test
+    public void snowflakecountstring()
+    {
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CSnowflake().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( "foo" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                new ArrayList<>()
+            )
+        );
+    }
+
+    /**
+     * test snowflake id with a zero count
+     */
+    @Test
+    public void snowflakecountzero()
+    {
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CSnowflake().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( 0 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                new ArrayList<>()
+            )
+        );
+    }
+
+    /**
+     * test snowflake id with a negative count
+     */
+    @Test
+    public void snowflakecountnegative()
+    {
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CSnowflake().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( -3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                new ArrayList<>()
+            )
+        );
+    }
+
 
     /**
      * test create literal action
@@ -204,6 +751,116 @@ public final class TestCActionGeneric extends IBaseTest
     }
 
 
+    /**
+     * test create literal action with interning
+     */
+    @Test
+    public void createliteralintern()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final IExecution l_create = new CCreateLiteral( true );
+
+        l_create.execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "status", "ok" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        l_create.execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "status", "ok" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        l_create.execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "status", "fail" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertSame( l_return.get( 0 ), l_return.get( 1 ) );
+        Assertions.assertNotEquals( l_return.get( 0 ), l_return.get( 2 ) );
+    }
+
+    /**
+     * test create literal action with cached functor path
+     */
+    @Test
+    public void createliteralfunctor()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final IExecution l_create = new CCreateLiteral();
+
+        IntStream.range( 0, 2 ).forEach( i -> l_create.execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "literal/functor/with/path", i ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( CLiteral.of( "literal/functor/with/path", CRawTerm.of( 0 ) ), l_return.get( 0 ).<ILiteral>raw() );
+        Assertions.assertEquals( CLiteral.of( "literal/functor/with/path", CRawTerm.of( 1 ) ), l_return.get( 1 ).<ILiteral>raw() );
+        Assertions.assertSame( CCreateLiteral.functor( "literal/functor/with/path" ), CCreateLiteral.functor( "literal/functor/with/path" ) );
+    }
+
+    /**
+     * test eviction of the functor cache
+     */
+    @Test
+    public void functorcacheeviction()
+    {
+        final CFunctorCache l_cache = new CFunctorCache( 16 );
+        final IPath l_functor = l_cache.get( "first/functor" );
+
+        Assertions.assertSame( l_functor, l_cache.get( "first/functor" ) );
+        IntStream.range( 0, 1024 ).forEach( i -> l_cache.get( "functor/" + i ) );
+        Assertions.assertNotSame( l_functor, l_cache.get( "first/functor" ) );
+        Assertions.assertEquals( l_functor, l_cache.get( "first/functor" ) );
+    }
+
+    /**
+     * test create multiple literals
+     */
+    @Test
+    public void createliterals()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CCreateLiterals().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.concat(
+                Stream.of( CRawTerm.of( "position" ) ),
+                IntStream.range( 0, 1000 ).mapToObj( i -> CRawTerm.of( List.of( i, i + 1 ) ) )
+            ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1000, l_return.size() );
+        IntStream.range( 0, 1000 ).forEach( i -> Assertions.assertEquals(
+            CLiteral.of( "position", CRawTerm.of( i ), CRawTerm.of( i + 1 ) ),
+            l_return.get( i ).<ILiteral>raw()
+        ) );
+    }
+
+    /**
+     * test create multiple literals with a list of tuples
+     */
+    @Test
+    public void createliteralsnested()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CCreateLiterals().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "pos", List.of( List.of( 3, 4 ), List.of( 5, 6 ) ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( CLiteral.of( "pos", CRawTerm.of( 3 ), CRawTerm.of( 4 ) ), l_return.get( 0 ).<ILiteral>raw() );
+        Assertions.assertEquals( CLiteral.of( "pos", CRawTerm.of( 5 ), CRawTerm.of( 6 ) ), l_return.get( 1 ).<ILiteral>raw() );
+    }
+
+
     /**
      * test parse literal action
      */
@@ -437,6 +1094,79 @@ public final class TestCActionGeneric extends IBaseTest
         Assertions.assertTrue( l_return.get( 3 ).raw() instanceof String );
     }
 
+    /**
+     * test parallel cast
+     */
+    @Test
+    public void castparallel()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CToString().execute(
+            true, IContext.EMPTYPLAN,
+            IntStream.range( 0, 50000 ).mapToObj( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals(
+            IntStream.range( 0, 50000 ).mapToObj( Integer::toString ).collect( Collectors.toList() ),
+            l_return.stream().map( ITerm::<String>raw ).collect( Collectors.toList() )
+        );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CToNumber().execute(
+                true, IContext.EMPTYPLAN,
+                Stream.concat( IntStream.range( 0, 50000 ).boxed(), Stream.of( "io" ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                new ArrayList<>()
+            )
+        );
+    }
+
+    /**
+     * test to-string with the formatters of the print action
+     *
+     * @throws Exception is thrown on print stream errors
+     */
+    @Test
+    public void tostringformatter() throws Exception
+    {
+        final CPrint l_print = new CPrint( () -> new PrintStream( OutputStream.nullOutputStream() ), "-" );
+        final IExecution l_tostring = new CToString( l_print.formatter() );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        l_tostring.execute( false, IContext.EMPTYPLAN, Stream.of( true ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        l_print.formatter().add( new CBooleanFormatter() );
+        l_tostring.execute( false, IContext.EMPTYPLAN, Stream.of( true, "foo" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+
+        Assertions.assertEquals( List.of( "true", "yes", "foo" ), l_return.stream().map( ITerm::<String>raw ).collect( Collectors.toList() ) );
+        Assertions.assertTrue( l_print.formatter().formatter( Boolean.class ).isPresent() );
+        Assertions.assertTrue( l_print.formatter().formatter( String.class ).isEmpty() );
+    }
+
+    /**
+     * test to-string with precomputed terms and deduplication
+     */
+    @Test
+    public void tostringdeduplication()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CToString( 16 ).execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 12, 12L, true, Boolean.TRUE, 2.5, 2.5, 100000, 100000 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 8, l_return.size() );
+        Assertions.assertSame( l_return.get( 0 ), l_return.get( 1 ) );
+        Assertions.assertSame( l_return.get( 2 ), l_return.get( 3 ) );
+        Assertions.assertSame( l_return.get( 4 ), l_return.get( 5 ) );
+        Assertions.assertSame( l_return.get( 6 ), l_return.get( 7 ) );
+        Assertions.assertEquals( "true", l_return.get( 2 ).raw() );
+        Assertions.assertEquals( "100000", l_return.get( 6 ).raw() );
+    }
+
 
     /**
      * test to-number
@@ -458,6 +1188,173 @@ public final class TestCActionGeneric extends IBaseTest
         Assertions.assertTrue( l_return.get( 2 ).raw() instanceof Double );
     }
 
+    /**
+     * test lazy return lists
+     */
+    @Test
+    public void lazylist()
+    {
+        final long l_threshold = CLazyList.threshold();
+        CLazyList.threshold( 3 );
+        try
+        {
+            final List<ITerm> l_return = new ArrayList<>();
+
+            new CParseNumber().execute( false, IContext.EMPTYPLAN, Stream.of( "1", "2", "io" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+            new CToString().execute( false, IContext.EMPTYPLAN, Stream.of( 1, 2, 3 ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+            new CType().execute( false, IContext.EMPTYPLAN, Stream.of( 1, "a", 2.5 ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+            new CToNumber().execute( false, IContext.EMPTYPLAN, Stream.of( 1, 2 ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+
+            Assertions.assertEquals( 5, l_return.size() );
+
+            final List<ITerm> l_parse = l_return.get( 0 ).raw();
+            Assertions.assertEquals( 3, l_parse.size() );
+            Assertions.assertEquals( 2.0, l_parse.get( 1 ).<Double>raw() );
+            Assertions.assertSame( l_parse.get( 1 ), l_parse.get( 1 ) );
+            Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> l_parse.get( 2 ) );
+
+            Assertions.assertEquals( "3", l_return.get( 1 ).<List<ITerm>>raw().get( 2 ).raw() );
+            Assertions.assertEquals( "java.lang.String", l_return.get( 2 ).<List<ITerm>>raw().get( 1 ).raw() );
+            Assertions.assertEquals( 1.0, l_return.get( 3 ).<Double>raw() );
+        }
+        finally
+        {
+            CLazyList.threshold( l_threshold );
+        }
+    }
+
+    /**
+     * test lazy type list is independent of the argument list
+     */
+    @Test
+    public void lazylisttypeargument()
+    {
+        final long l_threshold = CLazyList.threshold();
+        CLazyList.threshold( 2 );
+        try
+        {
+            final List<ITerm> l_argument = Stream.of( 1, "a" ).map( CRawTerm::of ).collect( Collectors.toList() );
+            final List<ITerm> l_return = new ArrayList<>();
+
+            new CType().execute( false, IContext.EMPTYPLAN, l_argument, l_return );
+            l_argument.clear();
+
+            Assertions.assertEquals( 1, l_return.size() );
+            Assertions.assertEquals( 2, l_return.get( 0 ).<List<ITerm>>raw().size() );
+            Assertions.assertEquals( "java.lang.String", l_return.get( 0 ).<List<ITerm>>raw().get( 1 ).raw() );
+        }
+        finally
+        {
+            CLazyList.threshold( l_threshold );
+        }
+    }
+
+    /**
+     * test packed numbers as argument of print, to-string and type check
+     *
+     * @throws Exception is thrown on print stream error
+     */
+    @Test
+    public void numberpackedconsumer() throws Exception
+    {
+        final List<ITerm> l_vector = new ArrayList<>();
+        new CToNumber( true ).execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 1, 2.5, 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_vector
+        );
+
+        final ByteArrayOutputStream l_output = new ByteArrayOutputStream();
+        new CPrint( () -> new PrintStream( l_output, false, StandardCharsets.UTF_8 ), "-" ).execute(
+            false, IContext.EMPTYPLAN, l_vector, Collections.emptyList()
+        );
+        Assertions.assertEquals( "[1.0, 2.5, 3.0]\n", l_output.toString( StandardCharsets.UTF_8 ) );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CToString().execute( false, IContext.EMPTYPLAN, l_vector, l_return );
+        Assertions.assertEquals( List.of( "1.0", "2.5", "3.0" ), l_return.stream().map( ITerm::<String>raw ).collect( Collectors.toList() ) );
+
+        Assertions.assertTrue( execute( new CIsNumeric(), false, l_vector, Collections.emptyList() ) );
+    }
+
+    /**
+     * test packed number cast and parsing
+     */
+    @Test
+    public void numberpacked()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CToNumber( true ).execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 1, 2.5, new int[]{3, 4}, 5L ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CParseNumber( true ).execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "1.5", "-2" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertTrue( CDoubleVector.packed( l_return.get( 0 ) ) );
+        Assertions.assertArrayEquals( new double[]{1, 2.5, 3, 4, 5}, CDoubleVector.unpack( l_return.get( 0 ) ) );
+        Assertions.assertArrayEquals( new double[]{1.5, -2}, CDoubleVector.unpack( l_return.get( 1 ) ) );
+        Assertions.assertEquals( 2.5, CDoubleVector.terms( l_return.get( 0 ) ).get( 1 ).<Double>raw() );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CParseNumber( true ).execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( "1.5", "io" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                new ArrayList<>()
+            )
+        );
+    }
+
+    /**
+     * test number cast with term reuse and cache
+     */
+    @Test
+    public void tonumbercache()
+    {
+        final List<ITerm> l_argument = Stream.of( 3.2, 7, 7L, -0.0, 5.5f ).map( CRawTerm::of ).collect( Collectors.toList() );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CToNumber().execute( false, IContext.EMPTYPLAN, l_argument, l_return );
+
+        Assertions.assertEquals( 5, l_return.size() );
+        Assertions.assertSame( l_argument.get( 0 ), l_return.get( 0 ) );
+        Assertions.assertSame( l_return.get( 1 ), l_return.get( 2 ) );
+        Assertions.assertEquals( 7.0, l_return.get( 1 ).<Double>raw() );
+        Assertions.assertEquals( Double.doubleToRawLongBits( -0.0 ), Double.doubleToRawLongBits( l_return.get( 3 ).<Double>raw() ) );
+        Assertions.assertEquals( 5.5, l_return.get( 4 ).<Double>raw() );
+    }
+
+    /**
+     * test disabled string cache
+     */
+    @Test
+    public void tostringcachedisabled()
+    {
+        Assertions.assertEquals( 0, CToString.cache( 0 ).length );
+        Assertions.assertEquals( 0, CToString.cache( -1 ).length );
+        Assertions.assertEquals( 129, CToString.cache( 1 ).length );
+        Assertions.assertEquals( "-128", CToString.cache( 1 )[0].raw() );
+    }
+
+    /**
+     * test disabled number cache
+     */
+    @Test
+    public void tonumbercachedisabled()
+    {
+        Assertions.assertEquals( 0, CToNumber.cache( 0 ).length );
+        Assertions.assertEquals( 0, CToNumber.cache( -1 ).length );
+        Assertions.assertEquals( 129, CToNumber.cache( 1 ).length );
+        Assertions.assertEquals( -128.0, CToNumber.cache( 1 )[0].<Double>raw() );
+    }
+
     /**
      * test cast error
      */
@@ -499,6 +1396,87 @@ public final class TestCActionGeneric extends IBaseTest
         );
     }
 
+    /**
+     * test fuzzy return with odd argument number
+     */
+    @Test
+    public void fuzzyreturnerror()
+    {
+        final CExecutionIllegealArgumentException l_exception = Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CFuzzyReturn().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( "true", 0.8, "false" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            )
+        );
+
+        Assertions.assertTrue( l_exception.getMessage().contains( "[3]" ), l_exception.getMessage() );
+        Assertions.assertSame( l_exception.getMessage(), l_exception.getMessage() );
+    }
+
+    /**
+     * test action index
+     */
+    @Test
+    public void actionindex()
+    {
+        final Map<String, CActionIndex.CEntry> l_index = CActionIndex.index().collect( Collectors.toMap( CActionIndex.CEntry::type, i -> i ) );
+
+        Assertions.assertFalse( l_index.isEmpty() );
+        Assertions.assertEquals( new CUuid().name().toString(), l_index.get( CUuid.class.getName() ).name() );
+        Assertions.assertEquals( new CIs().minimalArgumentNumber(), l_index.get( CIs.class.getName() ).arity() );
+        Assertions.assertFalse( l_index.containsKey( ICast.class.getName() ) );
+
+        Assertions.assertEquals(
+            l_index.keySet(),
+            CActionIndex.actions().map( i -> i.getClass().getName() ).collect( Collectors.toSet() )
+        );
+
+        Assertions.assertEquals( CUuid.class.getName(), CActionIndex.entry( new CUuid().name().toString() ).orElseThrow().type() );
+        Assertions.assertTrue( CActionIndex.action( new CIs().name().toString() ).orElseThrow() instanceof CIs );
+        Assertions.assertTrue( CActionIndex.entry( "generic/notexisting" ).isEmpty() );
+    }
+
+    /**
+     * test startup and first call of the action set, the
+     * latency is measured by the load harness
+     */
+    @Test
+    public void startup()
+    {
+        final Map<String, IExecution> l_actions = CActionIndex.actions().collect( Collectors.toMap( i -> i.name().toString(), i -> i ) );
+
+        Assertions.assertEquals( CActionIndex.index().count(), l_actions.size() );
+        Assertions.assertTrue(
+            execute(
+                l_actions.get( new CIs().name().toString() ),
+                false,
+                Stream.of( "java.lang.Number", 123, 44.5 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            )
+        );
+    }
+
+    /**
+     * test class registry of "is" action
+     */
+    @Test
+    public void isregistry()
+    {
+        Assertions.assertSame( Number.class, CClassRegistry.get( "java.lang.Number" ).orElseThrow() );
+        Assertions.assertTrue( CClassRegistry.get( "org.lightjason.unknown.CClass" ).isEmpty() );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CIs().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( "org.lightjason.unknown.CClass", 123 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            )
+        );
+    }
+
 
     // ---------------------------------------------------------------------------------------------------------------------------------------------------------
 
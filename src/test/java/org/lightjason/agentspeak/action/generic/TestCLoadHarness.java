@@ -0,0 +1,279 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.generic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * load test of the generic actions with many concurrent agents.
+ * Each agent executes in each cycle a plan with print, number parsing,
+ * uuid creation, type checking and literal creation, the cycles of all
+ * agents run on a thread pool and share the action instances. The test
+ * runs only with -Dloadtest=true and measures also the startup latency
+ * of the action set, the agent number (loadtest.agents),
+ * cycles (loadtest.cycles), threads (loadtest.threads) and uuid
+ * generator (loadtest.uuid) can be set by system properties
+ */
+@EnabledIfSystemProperty( named = "loadtest", matches = "true" )
+public final class TestCLoadHarness extends IBaseTest
+{
+    /**
+     * number of agents
+     */
+    private static final int AGENTS = Integer.getInteger( "loadtest.agents", 10000 );
+    /**
+     * number of cycles
+     */
+    private static final int CYCLES = Integer.getInteger( "loadtest.cycles", 50 );
+    /**
+     * number of threads
+     */
+    private static final int THREADS = Integer.getInteger( "loadtest.threads", Runtime.getRuntime().availableProcessors() );
+    /**
+     * number of actions of a plan
+     */
+    private static final int PLANSIZE = 5;
+    /**
+     * print action
+     */
+    private final IExecution m_print;
+    /**
+     * parse number action
+     */
+    private final IExecution m_parsenumber = new CParseNumber();
+    /**
+     * uuid action
+     */
+    private final IExecution m_uuid = new CUuid( CUuid.EGenerator.valueOf( System.getProperty( "loadtest.uuid", "SECURE" ) ) );
+    /**
+     * is action
+     */
+    private final IExecution m_is = new CIs();
+    /**
+     * create literal action
+     */
+    private final IExecution m_createliteral = new CCreateLiteral();
+    /**
+     * number of failed cycles
+     */
+    private final LongAdder m_errors = new LongAdder();
+
+    /**
+     * ctor
+     *
+     * @throws Exception is thrown on print stream error
+     */
+    public TestCLoadHarness() throws Exception
+    {
+        m_print = new CPrint( () -> new PrintStream( OutputStream.nullOutputStream() ), " " );
+    }
+
+    /**
+     * runs the load test
+     *
+     * @throws Exception is thrown on execution error
+     */
+    @Test
+    public void load() throws Exception
+    {
+        final List<CAgent> l_agents = IntStream.range( 0, AGENTS ).mapToObj( CAgent::new ).collect( Collectors.toList() );
+        final CHistogram l_latency = new CHistogram();
+        final ExecutorService l_pool = Executors.newFixedThreadPool( THREADS );
+
+        final Map<String, long[]> l_gcstart = garbagecollection();
+        final long l_start = System.nanoTime();
+        try
+        {
+            for ( int i = 0; i < CYCLES; i++ )
+            {
+                final List<Future<?>> l_futures = l_agents.stream()
+                                                          .map( j -> l_pool.submit( () -> l_latency.record( j.cycle() ) ) )
+                                                          .collect( Collectors.toList() );
+                for ( final Future<?> l_future : l_futures )
+                    l_future.get();
+            }
+        }
+        finally
+        {
+            l_pool.shutdown();
+            l_pool.awaitTermination( 1, TimeUnit.MINUTES );
+        }
+        final long l_duration = System.nanoTime() - l_start;
+        final Map<String, long[]> l_gcend = garbagecollection();
+
+        System.out.println( MessageFormat.format(
+            "agents [{0}], cycles [{1}], threads [{2}], duration [{3} ms], actions per second [{4,number,#}]",
+            AGENTS, CYCLES, THREADS, TimeUnit.NANOSECONDS.toMillis( l_duration ),
+            (double) AGENTS * CYCLES * PLANSIZE / l_duration * TimeUnit.SECONDS.toNanos( 1 )
+        ) );
+        System.out.println( MessageFormat.format(
+            "cycle latency [us]: mean [{0,number,#.##}], p50 [{1}], p90 [{2}], p99 [{3}], p99.9 [{4}], max [{5}]",
+            l_latency.mean() / 1000, l_latency.percentile( 0.5 ) / 1000, l_latency.percentile( 0.9 ) / 1000,
+            l_latency.percentile( 0.99 ) / 1000, l_latency.percentile( 0.999 ) / 1000, l_latency.max() / 1000
+        ) );
+        l_gcend.forEach( ( i, j ) -> System.out.println( MessageFormat.format(
+            "garbage collector [{0}]: collections [{1}], time [{2} ms]",
+            i, j[0] - l_gcstart.getOrDefault( i, new long[2] )[0], j[1] - l_gcstart.getOrDefault( i, new long[2] )[1]
+        ) ) );
+
+        Assertions.assertEquals( 0, m_errors.sum() );
+        Assertions.assertEquals( (long) AGENTS * CYCLES, l_latency.count() );
+    }
+
+    /**
+     * measures the startup and first call latency of the action set
+     */
+    @Test
+    public void startup()
+    {
+        final long l_start = System.nanoTime();
+        final Map<String, IExecution> l_actions = CActionIndex.actions().collect( Collectors.toMap( i -> i.name().toString(), i -> i ) );
+        final long l_startup = System.nanoTime() - l_start;
+
+        final long l_call = System.nanoTime();
+        Assertions.assertTrue(
+            execute(
+                l_actions.get( new CIs().name().toString() ),
+                false,
+                Stream.of( "java.lang.Number", 123, 44.5 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            )
+        );
+        final long l_firstcall = System.nanoTime() - l_call;
+
+        System.out.println( MessageFormat.format(
+            "actions [{0}], startup [{1} us], first call [{2} us]",
+            l_actions.size(), l_startup / 1000, l_firstcall / 1000
+        ) );
+        Assertions.assertFalse( l_actions.isEmpty() );
+    }
+
+    /**
+     * returns the collection count and time of each garbage collector
+     *
+     * @return map with collector name and count / time
+     */
+    private static Map<String, long[]> garbagecollection()
+    {
+        return ManagementFactory.getGarbageCollectorMXBeans()
+                                .stream()
+                                .collect( Collectors.toMap( GarbageCollectorMXBean::getName, i -> new long[]{i.getCollectionCount(), i.getCollectionTime()} ) );
+    }
+
+
+    /**
+     * agent with a plan of generic actions
+     */
+    private final class CAgent
+    {
+        /**
+         * print arguments
+         */
+        private final List<ITerm> m_printargument;
+        /**
+         * number arguments
+         */
+        private final List<ITerm> m_numberargument;
+        /**
+         * is arguments
+         */
+        private final List<ITerm> m_isargument;
+        /**
+         * literal arguments
+         */
+        private final List<ITerm> m_literalargument;
+        /**
+         * return values
+         */
+        private final List<ITerm> m_return = new ArrayList<>();
+
+        /**
+         * ctor
+         *
+         * @param p_id agent id
+         */
+        CAgent( final int p_id )
+        {
+            final Function<Object[], List<ITerm>> l_arguments = i -> Stream.of( i ).map( CRawTerm::of ).collect( Collectors.toList() );
+
+            m_printargument = l_arguments.apply( new Object[]{"agent", p_id, "cycle"} );
+            m_numberargument = l_arguments.apply( new Object[]{Integer.toString( p_id ), "3.1415"} );
+            m_isargument = l_arguments.apply( new Object[]{"java.lang.Number", p_id, 0.5} );
+            m_literalargument = l_arguments.apply( new Object[]{"position", p_id % 100, p_id % 7} );
+        }
+
+        /**
+         * executes one cycle of the agent
+         *
+         * @return cycle time in nanoseconds
+         */
+        long cycle()
+        {
+            final long l_start = System.nanoTime();
+            try
+            {
+                m_print.execute( false, IContext.EMPTYPLAN, m_printargument, m_return );
+                m_parsenumber.execute( false, IContext.EMPTYPLAN, m_numberargument, m_return );
+                m_uuid.execute( false, IContext.EMPTYPLAN, Collections.emptyList(), m_return );
+                if ( !execute( m_is, false, m_isargument, Collections.emptyList() ) )
+                    m_errors.increment();
+                m_createliteral.execute( false, IContext.EMPTYPLAN, m_literalargument, m_return );
+            }
+            catch ( final RuntimeException l_exception )
+            {
+                m_errors.increment();
+            }
+            m_return.clear();
+
+            return System.nanoTime() - l_start;
+        }
+    }
+}